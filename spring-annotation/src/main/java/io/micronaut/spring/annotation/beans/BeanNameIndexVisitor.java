@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.annotation.beans;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.DefaultScope;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.spring.context.factory.BeanNameIndex;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the {@link BeanNameIndex} for the beans of the current compilation unit so that the Spring bean names can be
+ * computed without loading the bean definitions at runtime.
+ *
+ * <p>Iterable beans are not indexed since their names are only known once the configuration is resolved.</p>
+ *
+ * @since 5.9.0
+ */
+@Internal
+public final class BeanNameIndexVisitor implements TypeElementVisitor<Object, Object> {
+
+    private static final String DEFINITION_SUFFIX = "$Definition";
+
+    private final Map<String, BeanNameIndex.Entry> entries = new LinkedHashMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public void start(VisitorContext visitorContext) {
+        entries.clear();
+        originatingElements.clear();
+    }
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        if (element.isAbstract() || element.isInterface() || !isBean(element)) {
+            return;
+        }
+        if (element.hasStereotype(EachProperty.class) || element.hasStereotype(EachBean.class)) {
+            return;
+        }
+        String qualifierName = element.stringValue(AnnotationUtil.NAMED)
+            .orElseGet(() -> element.getAnnotationNameByStereotype(AnnotationUtil.QUALIFIER)
+                .map(BeanNameIndexVisitor::getSimpleName)
+                .orElse(null));
+        String springName = null;
+        if (element.hasAnnotation(org.springframework.context.annotation.Bean.class)) {
+            springName = element.stringValue(org.springframework.context.annotation.Bean.class).orElse(null);
+        } else if (element.hasAnnotation(Component.class)) {
+            springName = element.stringValue(Component.class).orElse(null);
+        }
+        if (!BeanNameIndex.Entry.isValidValue(qualifierName) || !BeanNameIndex.Entry.isValidValue(springName)) {
+            // not representable, the definition will be loaded eagerly
+            return;
+        }
+        String definitionName = getDefinitionName(element);
+        entries.put(definitionName, new BeanNameIndex.Entry(definitionName, element.getName(), qualifierName, springName));
+        originatingElements.add(element);
+    }
+
+    @Override
+    public void finish(VisitorContext visitorContext) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        visitorContext.visitMetaInfFile(BeanNameIndex.PATH, originatingElements.toArray(new Element[0])).ifPresent(file -> {
+            try (Writer writer = file.openWriter()) {
+                BeanNameIndex.write(entries.values(), writer);
+            } catch (IOException e) {
+                visitorContext.fail("Error writing Spring bean name index: " + e.getMessage(), null);
+            }
+        });
+    }
+
+    @Override
+    @NonNull
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationNames() {
+        return Collections.singleton("*");
+    }
+
+    private static boolean isBean(ClassElement element) {
+        return element.hasStereotype(AnnotationUtil.SCOPE) ||
+            element.hasStereotype(Bean.class) ||
+            element.hasStereotype(DefaultScope.class);
+    }
+
+    /**
+     * Mirrors the naming of the bean definitions generated by Micronaut. If a name does not match a generated
+     * definition the entry is simply never used and the definition is loaded eagerly.
+     */
+    private static String getDefinitionName(ClassElement element) {
+        String packageName = element.getPackageName();
+        String className = element.getName();
+        if (packageName.isEmpty()) {
+            return "$" + className + DEFINITION_SUFFIX;
+        }
+        return packageName + ".$" + className.substring(packageName.length() + 1) + DEFINITION_SUFFIX;
+    }
+
+    private static String getSimpleName(String className) {
+        int i = Math.max(className.lastIndexOf('.'), className.lastIndexOf('$'));
+        return i > -1 ? className.substring(i + 1) : className;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.spring.context.MicronautApplicationContext;
+import io.micronaut.spring.context.factory.MicronautBeanFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookup methods of {@link MicronautBeanFactory} against contexts of increasing size.
+ *
+ * <p>The synthetic beans are loaded from the class path given by the {@value #CLASSPATH_PROPERTY} system property
+ * through a dedicated class loader, so that they are only seen by this benchmark.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MicronautBeanFactoryBenchmark {
+
+    static final String CLASSPATH_PROPERTY = "synthetic.beans.classpath";
+
+    @Param({"100", "1000", "10000"})
+    int beans;
+
+    URLClassLoader classLoader;
+    MicronautApplicationContext context;
+    MicronautBeanFactory beanFactory;
+    Class<?> firstBeanType;
+    String beanName;
+
+    @Setup
+    public void setup() throws ClassNotFoundException, MalformedURLException {
+        classLoader = new URLClassLoader(syntheticClasspath(), getClass().getClassLoader());
+        context = new MicronautApplicationContext(
+            ApplicationContext.builder()
+                .classLoader(classLoader)
+                .properties(Collections.singletonMap("synthetic.beans", String.valueOf(beans)))
+        );
+        context.start();
+        beanFactory = (MicronautBeanFactory) context.getBeanFactory();
+        firstBeanType = classLoader.loadClass("io.micronaut.spring.benchmarks.synthetic.SyntheticBean0");
+        beanName = beanFactory.getBeanNamesForType(firstBeanType)[0];
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        classLoader.close();
+    }
+
+    private static URL[] syntheticClasspath() throws MalformedURLException {
+        final String classpath = System.getProperty(CLASSPATH_PROPERTY);
+        if (classpath == null) {
+            throw new IllegalStateException("The " + CLASSPATH_PROPERTY + " system property is not set, run the benchmark through the jmh task");
+        }
+        final String[] paths = classpath.split(File.pathSeparator);
+        final URL[] urls = new URL[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            urls[i] = new File(paths[i]).toURI().toURL();
+        }
+        return urls;
+    }
+
+    @Benchmark
+    public Object getBeanByName() {
+        return beanFactory.getBean(beanName);
+    }
+
+    @Benchmark
+    public Object getBeanByType() {
+        return beanFactory.getBean(firstBeanType);
+    }
+
+    @Benchmark
+    public String[] getBeanNamesForType() {
+        return beanFactory.getBeanNamesForType(SyntheticBean.class);
+    }
+
+    @Benchmark
+    public Map<String, SyntheticBean> getBeansOfType() {
+        return beanFactory.getBeansOfType(SyntheticBean.class);
+    }
+
+    @Benchmark
+    public void getBeanProviderStream(Blackhole blackhole) {
+        beanFactory.getBeanProvider(SyntheticBean.class).stream().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public boolean isTypeMatch() {
+        return beanFactory.isTypeMatch(beanName, SyntheticBean.class);
+    }
+
+    @Benchmark
+    public Class<?> getType() {
+        return beanFactory.getType(beanName);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.benchmarks;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ApplicationStartup} that keeps the time spent in the last run of each startup step by name.
+ */
+final class PhaseTimingApplicationStartup implements ApplicationStartup {
+
+    private final Map<String, Long> nanosByStep = new ConcurrentHashMap<>();
+
+    @Override
+    public StartupStep start(String name) {
+        return new TimedStep(name, System.nanoTime());
+    }
+
+    /**
+     * @param name The step name
+     * @return The time spent in the last run of the step in milliseconds, {@code 0} if it did not run
+     */
+    double millis(String name) {
+        final Long nanos = nanosByStep.get(name);
+        return nanos != null ? nanos / 1_000_000d : 0;
+    }
+
+    /**
+     * Forgets the recorded steps.
+     */
+    void clear() {
+        nanosByStep.clear();
+    }
+
+    private final class TimedStep implements StartupStep {
+        private final String name;
+        private final long start;
+
+        private TimedStep(String name, long start) {
+            this.name = name;
+            this.start = start;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getId() {
+            return 0;
+        }
+
+        @Override
+        public Long getParentId() {
+            return null;
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            return this;
+        }
+
+        @Override
+        public Tags getTags() {
+            return Collections::emptyIterator;
+        }
+
+        @Override
+        public void end() {
+            nanosByStep.put(name, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.PropertyPlaceholderResolver;
+import io.micronaut.spring.context.env.MicronautEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving placeholders through {@link MicronautEnvironment}, which renders precompiled templates, with the
+ * Micronaut {@link PropertyPlaceholderResolver} that parses the text on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceholderBenchmark {
+
+    @Param({
+        "http://${service.host}:${service.port}/api/${service.version}/items",
+        "message.${service.name}.greeting",
+        "${service.timeout:30s}"
+    })
+    String text;
+
+    ApplicationContext context;
+    MicronautEnvironment environment;
+    PropertyPlaceholderResolver placeholderResolver;
+
+    @Setup
+    public void setup() {
+        context = ApplicationContext.run(Map.of(
+            "service.host", "localhost",
+            "service.port", "8080",
+            "service.version", "v1",
+            "service.name", "orders"
+        ));
+        environment = context.getBean(MicronautEnvironment.class);
+        placeholderResolver = context.getEnvironment().getPlaceholderResolver();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return environment.resolvePlaceholders(text);
+    }
+
+    @Benchmark
+    public String placeholderResolver() {
+        return placeholderResolver.resolvePlaceholders(text).orElse(text);
+    }
+}
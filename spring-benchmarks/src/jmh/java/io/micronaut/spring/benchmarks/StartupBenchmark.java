@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.spring.benchmarks.startup.StartupService499;
+import io.micronaut.spring.context.MicronautApplicationContext;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold start of an application of 500 Spring annotated services up to the first {@code getBean} call.
+ *
+ * <p>Each measurement starts a new context. The time spent in each phase of
+ * {@link MicronautApplicationContext#start()} is reported as secondary results by {@link PhaseTimes}, allocation
+ * totals are reported by the {@code gc} profiler ({@code gc.alloc.rate.norm}) or can be recorded with the {@code jfr}
+ * profiler.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+public class StartupBenchmark {
+
+    private final PhaseTimingApplicationStartup applicationStartup = new PhaseTimingApplicationStartup();
+    private MicronautApplicationContext context;
+
+    @Benchmark
+    public Object startToFirstGetBean(PhaseTimes phaseTimes) {
+        applicationStartup.clear();
+        context = new MicronautApplicationContext(
+            ApplicationContext.builder().properties(Collections.singletonMap("startup.beans", "true"))
+        );
+        context.setApplicationStartup(applicationStartup);
+        context.start();
+        final Object bean = context.getBean(StartupService499.class);
+        phaseTimes.record(applicationStartup);
+        return bean;
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopContext() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    /**
+     * The time in milliseconds spent in each phase of the measured start, written to the JMH results next to the
+     * total time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PhaseTimes {
+        public double micronautStart;
+        public double smartInitializingSingletons;
+        public double refreshedListeners;
+        public double beanFactory;
+        public double environment;
+        public double eventPublisher;
+        public double messageSource;
+
+        void record(PhaseTimingApplicationStartup startup) {
+            micronautStart = startup.millis("micronaut.spring.context.start");
+            smartInitializingSingletons = startup.millis("micronaut.spring.context.smart-initializing-singletons");
+            refreshedListeners = startup.millis("micronaut.spring.context.refreshed-listeners");
+            beanFactory = startup.millis("micronaut.spring.context.bean-factory");
+            environment = startup.millis("micronaut.spring.context.environment");
+            eventPublisher = startup.millis("micronaut.spring.context.event-publisher");
+            messageSource = startup.millis("micronaut.spring.context.message-source");
+        }
+    }
+}
@@ -19,11 +19,10 @@ import io.micronaut.context.ApplicationContextBuilder;
 import io.micronaut.context.annotation.Secondary;
 import io.micronaut.context.event.StartupEvent;
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.reflect.GenericTypeUtils;
-import io.micronaut.inject.BeanDefinition;
 import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.spring.beans.MicronautContextInternal;
 import io.micronaut.spring.context.env.MicronautEnvironment;
+import io.micronaut.spring.context.event.ApplicationEventRouter;
 import io.micronaut.spring.context.event.MicronautApplicationEventPublisher;
 import io.micronaut.spring.context.factory.MicronautBeanFactory;
 import jakarta.inject.Inject;
@@ -44,6 +43,7 @@ import org.springframework.core.io.ProtocolResolver;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.util.ObjectUtils;
 
 import java.io.IOException;
@@ -74,7 +74,7 @@ public class MicronautApplicationContext implements ManagedApplicationContext, C
     private long startupDate;
     private String id = ObjectUtils.identityToString(this);
     private ApplicationContext parent;
-    private ApplicationStartup applicationStartup;
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
 
     /**
      * Default constructor.
@@ -368,7 +368,7 @@ public class MicronautApplicationContext implements ManagedApplicationContext, C
 
     @Override
     public void setApplicationStartup(ApplicationStartup applicationStartup) {
-        this.applicationStartup = applicationStartup;
+        this.applicationStartup = applicationStartup != null ? applicationStartup : ApplicationStartup.DEFAULT;
     }
 
     @Override
@@ -384,11 +384,17 @@ public class MicronautApplicationContext implements ManagedApplicationContext, C
     @Override
     public void addApplicationListener(ApplicationListener<?> listener) {
         beanFactory.getBeanContext().registerSingleton(listener);
+        resetEventRoutes();
     }
 
     @Override
     public void removeApplicationListener(ApplicationListener<?> listener) {
         beanFactory.getBeanContext().destroyBean(listener);
+        resetEventRoutes();
+    }
+
+    private void resetEventRoutes() {
+        beanFactory.getBeanContext().findBean(ApplicationEventRouter.class).ifPresent(ApplicationEventRouter::reset);
     }
 
     @Override
@@ -455,12 +461,41 @@ public class MicronautApplicationContext implements ManagedApplicationContext, C
     public void start() {
         if (!isRunning()) {
             if (!micronautContext.isRunning()) {
-                micronautContext.start();
+                if (applicationStartup != ApplicationStartup.DEFAULT) {
+                    // the context managed instance receives the startup event and times the remaining phases
+                    micronautContext.registerSingleton(ConfiguredApplicationStartup.class, new ConfiguredApplicationStartup(applicationStartup));
+                }
+                StartupStep step = applicationStartup.start("micronaut.spring.context.start");
+                try {
+                    micronautContext.start();
+                } finally {
+                    step.end();
+                }
+            }
+            StartupStep step = applicationStartup.start("micronaut.spring.context.bean-factory");
+            try {
+                this.beanFactory = micronautContext.getBean(MicronautBeanFactory.class);
+            } finally {
+                step.end();
+            }
+            step = applicationStartup.start("micronaut.spring.context.environment");
+            try {
+                this.environment = micronautContext.getBean(MicronautEnvironment.class);
+            } finally {
+                step.end();
+            }
+            step = applicationStartup.start("micronaut.spring.context.event-publisher");
+            try {
+                this.eventPublisher = micronautContext.getBean(MicronautApplicationEventPublisher.class);
+            } finally {
+                step.end();
+            }
+            step = applicationStartup.start("micronaut.spring.context.message-source");
+            try {
+                this.messageSource = micronautContext.findBean(MessageSource.class).orElse(null);
+            } finally {
+                step.end();
             }
-            this.beanFactory = micronautContext.getBean(MicronautBeanFactory.class);
-            this.environment = micronautContext.getBean(MicronautEnvironment.class);
-            this.eventPublisher = micronautContext.getBean(MicronautApplicationEventPublisher.class);
-            this.messageSource = micronautContext.findBean(MessageSource.class).orElse(null);
             this.startupDate = System.currentTimeMillis();
         }
     }
@@ -481,21 +516,38 @@ public class MicronautApplicationContext implements ManagedApplicationContext, C
      * Method executed on startup.
      * @param startupEvent The startup event.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @EventListener
     protected void onStartup(StartupEvent startupEvent) {
-        Collection<SmartInitializingSingleton> smartSingletons =
-            micronautContext.getBeansOfType(SmartInitializingSingleton.class);
-        for (SmartInitializingSingleton smartSingleton : smartSingletons) {
-            smartSingleton.afterSingletonsInstantiated();
-        }
-        Collection<BeanDefinition<ApplicationListener>> beanDefinitions = micronautContext.getBeanDefinitions(ApplicationListener.class);
-        for (BeanDefinition<ApplicationListener> beanDefinition : beanDefinitions) {
-            Class<?> t = GenericTypeUtils.resolveInterfaceTypeArgument(beanDefinition.getBeanType(), ApplicationListener.class).orElse(null);
-            if (t != null && t.equals(ContextRefreshedEvent.class)) {
-                ApplicationListener applicationListener = micronautContext.getBean(beanDefinition);
-                applicationListener.onApplicationEvent(new ContextRefreshedEvent(this));
+        micronautContext.findBean(ConfiguredApplicationStartup.class)
+            .ifPresent(configured -> setApplicationStartup(configured.applicationStartup));
+        StartupStep step = applicationStartup.start("micronaut.spring.context.smart-initializing-singletons");
+        try {
+            Collection<SmartInitializingSingleton> smartSingletons =
+                micronautContext.getBeansOfType(SmartInitializingSingleton.class);
+            for (SmartInitializingSingleton smartSingleton : smartSingletons) {
+                smartSingleton.afterSingletonsInstantiated();
             }
+        } finally {
+            step.end();
+        }
+        step = applicationStartup.start("micronaut.spring.context.refreshed-listeners");
+        try {
+            micronautContext.getBean(ApplicationEventRouter.class).publishToDeclaredType(new ContextRefreshedEvent(this));
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * The {@link ApplicationStartup} set on a context created outside of Micronaut, handed to the context managed
+     * instance. A dedicated type is used so that an {@link ApplicationStartup} bean of the application is never
+     * picked up instead.
+     */
+    private static final class ConfiguredApplicationStartup {
+        private final ApplicationStartup applicationStartup;
+
+        private ConfiguredApplicationStartup(ApplicationStartup applicationStartup) {
+            this.applicationStartup = applicationStartup;
         }
     }
 }
@@ -17,7 +17,6 @@ package io.micronaut.spring.context.aop;
 
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
-import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.spring.context.factory.MicronautBeanFactory;
@@ -37,27 +36,44 @@ import java.util.concurrent.ConcurrentHashMap;
 @Internal
 public class SpringConfigurationInterceptor implements MethodInterceptor<Object, Object> {
 
-    private final Map<ExecutableMethod, Object> computedSingletons = new ConcurrentHashMap<>(30);
+    private final Map<ExecutableMethod<?, ?>, BeanMethod> beanMethods = new ConcurrentHashMap<>(30);
 
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        final AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
-        final boolean isSingleton = MicronautBeanFactory.isSingleton(annotationMetadata);
-        if (isSingleton) {
-            final ExecutableMethod<Object, Object> method = context.getExecutableMethod();
-            synchronized (computedSingletons) {
-                Object o = computedSingletons.get(method);
+        final ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        BeanMethod beanMethod = beanMethods.get(method);
+        if (beanMethod == null) {
+            beanMethod = beanMethods.computeIfAbsent(method, m -> new BeanMethod(MicronautBeanFactory.isSingleton(context.getAnnotationMetadata())));
+        }
+        if (!beanMethod.singleton) {
+            return context.proceed();
+        }
+        Object o = beanMethod.value;
+        if (o == null) {
+            // one lock per method so that bean methods calling other bean methods don't contend with unrelated ones
+            synchronized (beanMethod) {
+                o = beanMethod.value;
                 if (o == null) {
                     o = context.proceed();
                     if (o == null) {
                         throw new BeanCreationException("Bean factor method [" + method + "] returned null");
                     }
-                    computedSingletons.put(method, o);
+                    beanMethod.value = o;
                 }
-                return o;
             }
         }
-        return context.proceed();
+        return o;
     }
 
+    /**
+     * The scope and the memoized singleton of a bean method.
+     */
+    private static final class BeanMethod {
+        private final boolean singleton;
+        private volatile Object value;
+
+        BeanMethod(boolean singleton) {
+            this.singleton = singleton;
+        }
+    }
 }
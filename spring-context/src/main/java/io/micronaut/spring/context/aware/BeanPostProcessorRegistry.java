@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.aware;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.event.BeanPreDestroyEvent;
+import io.micronaut.context.event.BeanPreDestroyEventListener;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.spring.beans.MicronautContextInternal;
+import jakarta.inject.Singleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The {@link BeanPostProcessor} instances applied by {@link SpringAwareListener}.
+ *
+ * <p>The context is scanned for post-processors once. Afterwards post-processors are added and removed one at a time
+ * and every change publishes a new immutable {@link Snapshot}, sorted with {@link AnnotationAwareOrderComparator} so
+ * that {@link org.springframework.core.PriorityOrdered} processors come first, followed by
+ * {@link org.springframework.core.Ordered} ones. Reads never lock.</p>
+ *
+ * @since 5.9.0
+ */
+@Singleton
+@Internal
+public final class BeanPostProcessorRegistry implements BeanPreDestroyEventListener<BeanPostProcessor>, MicronautContextInternal {
+
+    private static final BeanPostProcessor[] NO_PROCESSORS = new BeanPostProcessor[0];
+
+    private final BeanContext beanContext;
+    private final Queue<PendingProcessor> pending = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Boolean> scanning = new ThreadLocal<>();
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Default constructor.
+     * @param beanContext The bean context
+     */
+    public BeanPostProcessorRegistry(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * Returns the current post-processors, scanning the context on the first call.
+     *
+     * @return The post-processors or {@code null} while the post-processors are being created on this thread
+     */
+    @Nullable
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            if (scanning.get() != null) {
+                // dependencies of the post-processors are not post-processed
+                return null;
+            }
+            scanning.set(Boolean.TRUE);
+            try {
+                Collection<BeanPostProcessor> processors = beanContext.getBeansOfType(BeanPostProcessor.class);
+                synchronized (writeLock) {
+                    if (snapshot == null) {
+                        snapshot = new Snapshot(processors.toArray(NO_PROCESSORS));
+                    }
+                    current = snapshot;
+                }
+            } finally {
+                scanning.remove();
+            }
+        }
+        if (!pending.isEmpty()) {
+            current = resolvePending();
+        }
+        return current;
+    }
+
+    /**
+     * Adds a post-processor instance.
+     * @param processor The post-processor
+     */
+    public void add(@NonNull BeanPostProcessor processor) {
+        if (snapshot == null) {
+            // merged after the initial scan, which may already be running
+            pending.add(new PendingProcessor(processor, null, null));
+        } else {
+            merge(processor);
+        }
+    }
+
+    private void merge(BeanPostProcessor processor) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current != null && !current.contains(processor)) {
+                BeanPostProcessor[] processors = Arrays.copyOf(current.processors, current.processors.length + 1);
+                processors[processors.length - 1] = processor;
+                snapshot = new Snapshot(processors);
+            }
+        }
+    }
+
+    /**
+     * Adds a post-processor that is created on the next read.
+     * @param type The bean type
+     * @param name The bean name
+     */
+    public void add(@NonNull Class<? extends BeanPostProcessor> type, @NonNull String name) {
+        pending.add(new PendingProcessor(null, type, name));
+    }
+
+    /**
+     * Removes a post-processor.
+     * @param processor The post-processor
+     */
+    public void remove(@NonNull BeanPostProcessor processor) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current != null && current.contains(processor)) {
+                List<BeanPostProcessor> processors = new ArrayList<>(current.processors.length);
+                for (BeanPostProcessor p : current.processors) {
+                    if (p != processor) {
+                        processors.add(p);
+                    }
+                }
+                snapshot = new Snapshot(processors.toArray(NO_PROCESSORS));
+            }
+        }
+    }
+
+    /**
+     * Discards all post-processors so that the context is scanned again on the next read.
+     */
+    public void reset() {
+        synchronized (writeLock) {
+            snapshot = null;
+            pending.clear();
+        }
+    }
+
+    @Override
+    public BeanPostProcessor onPreDestroy(@NonNull BeanPreDestroyEvent<BeanPostProcessor> event) {
+        BeanPostProcessor processor = event.getBean();
+        remove(processor);
+        return processor;
+    }
+
+    private Snapshot resolvePending() {
+        PendingProcessor next;
+        while ((next = pending.poll()) != null) {
+            // created outside the lock, creating a bean may need locks held by threads reading the registry
+            merge(next.processor != null ? next.processor : beanContext.getBean(next.type, Qualifiers.byName(next.name)));
+        }
+        return snapshot;
+    }
+
+    /**
+     * An immutable, ordered set of post-processors, split by the callbacks they implement. Processors relying on the
+     * default no-op implementation of a callback are left out of its array.
+     */
+    public static final class Snapshot {
+        private final BeanPostProcessor[] processors;
+        private final BeanPostProcessor[] beforeInitialization;
+        private final BeanPostProcessor[] afterInitialization;
+
+        private Snapshot(BeanPostProcessor[] processors) {
+            AnnotationAwareOrderComparator.sort(processors);
+            List<BeanPostProcessor> before = new ArrayList<>(processors.length);
+            List<BeanPostProcessor> after = new ArrayList<>(processors.length);
+            for (BeanPostProcessor processor : processors) {
+                if (overrides(processor, "postProcessBeforeInitialization")) {
+                    before.add(processor);
+                }
+                if (overrides(processor, "postProcessAfterInitialization")) {
+                    after.add(processor);
+                }
+            }
+            this.processors = processors;
+            this.beforeInitialization = before.toArray(NO_PROCESSORS);
+            this.afterInitialization = after.toArray(NO_PROCESSORS);
+        }
+
+        /**
+         * @return The post-processors implementing {@link BeanPostProcessor#postProcessBeforeInitialization(Object, String)}
+         */
+        @NonNull
+        BeanPostProcessor[] beforeInitialization() {
+            return beforeInitialization;
+        }
+
+        /**
+         * @return The post-processors implementing {@link BeanPostProcessor#postProcessAfterInitialization(Object, String)}
+         */
+        @NonNull
+        BeanPostProcessor[] afterInitialization() {
+            return afterInitialization;
+        }
+
+        /**
+         * @return The number of post-processors
+         */
+        public int size() {
+            return processors.length;
+        }
+
+        private boolean contains(BeanPostProcessor processor) {
+            for (BeanPostProcessor p : processors) {
+                if (p == processor) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean overrides(BeanPostProcessor processor, String callback) {
+            try {
+                return processor.getClass().getMethod(callback, Object.class, String.class).getDeclaringClass() != BeanPostProcessor.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * A post-processor added but not merged yet, either as an instance or as a definition to create it from.
+     */
+    private static final class PendingProcessor {
+        private final BeanPostProcessor processor;
+        private final Class<? extends BeanPostProcessor> type;
+        private final String name;
+
+        private PendingProcessor(BeanPostProcessor processor, Class<? extends BeanPostProcessor> type, String name) {
+            this.processor = processor;
+            this.type = type;
+            this.name = name;
+        }
+    }
+}
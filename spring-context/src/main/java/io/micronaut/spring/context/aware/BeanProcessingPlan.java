@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.aware;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.spring.beans.MicronautContextInternal;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.ResourceLoaderAware;
+
+/**
+ * The callbacks {@link SpringAwareListener} applies to beans of a given type, computed once per type.
+ *
+ * @since 5.9.0
+ */
+@Internal
+final class BeanProcessingPlan {
+
+    private static final ClassValue<BeanProcessingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BeanProcessingPlan computeValue(Class<?> type) {
+            return new BeanProcessingPlan(type);
+        }
+    };
+
+    final boolean internal;
+    final boolean postProcessor;
+    final boolean initializingBean;
+    final boolean aware;
+    final boolean beanClassLoaderAware;
+    final boolean environmentAware;
+    final boolean beanFactoryAware;
+    final boolean applicationContextAware;
+    final boolean resourceLoaderAware;
+
+    private BeanProcessingPlan(Class<?> type) {
+        this.internal = MicronautContextInternal.class.isAssignableFrom(type);
+        this.postProcessor = BeanPostProcessor.class.isAssignableFrom(type);
+        this.initializingBean = InitializingBean.class.isAssignableFrom(type);
+        this.beanClassLoaderAware = BeanClassLoaderAware.class.isAssignableFrom(type);
+        this.environmentAware = EnvironmentAware.class.isAssignableFrom(type);
+        this.beanFactoryAware = BeanFactoryAware.class.isAssignableFrom(type);
+        this.applicationContextAware = ApplicationContextAware.class.isAssignableFrom(type);
+        this.resourceLoaderAware = ResourceLoaderAware.class.isAssignableFrom(type);
+        this.aware = beanClassLoaderAware || environmentAware || beanFactoryAware
+            || applicationContextAware || resourceLoaderAware;
+    }
+
+    /**
+     * @param type The bean type
+     * @return The plan for beans of the type
+     */
+    @NonNull
+    static BeanProcessingPlan of(@NonNull Class<?> type) {
+        return PLANS.get(type);
+    }
+}
@@ -15,8 +15,7 @@
  */
 package io.micronaut.spring.context.aware;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 
 import io.micronaut.context.BeanProvider;
@@ -29,7 +28,6 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.BeanIdentifier;
-import io.micronaut.spring.beans.MicronautContextInternal;
 import io.micronaut.spring.context.MicronautApplicationContext;
 import io.micronaut.spring.context.env.MicronautEnvironment;
 import io.micronaut.spring.context.factory.MicronautBeanFactory;
@@ -43,6 +41,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.Role;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Enables support for the interfaces {@link EnvironmentAware}, {@link ApplicationContextAware}, and {@link BeanFactoryAware}.
@@ -57,48 +56,55 @@ public class SpringAwareListener implements BeanInitializedEventListener<Object>
     private final BeanProvider<MicronautBeanFactory> beanFactoryProvider;
     private final BeanProvider<MicronautEnvironment> environmentProvider;
     private final BeanProvider<MicronautApplicationContext> applicationContextProvider;
+    private final BeanPostProcessorRegistry postProcessorRegistry;
 
-    private Collection<BeanPostProcessor> beanPostProcessors;
+    private final Map<BeanDefinition<?>, Boolean> applicationRoles = new ConcurrentReferenceHashMap<>();
 
     /**
      * Default constructor.
      * @param beanFactoryProvider The bean factory provider
      * @param environmentProvider The env provider
      * @param applicationContextProvider The context provider
+     * @param postProcessorRegistry The post-processors
      */
     public SpringAwareListener(
         BeanProvider<MicronautBeanFactory> beanFactoryProvider,
         BeanProvider<MicronautEnvironment> environmentProvider,
-        BeanProvider<MicronautApplicationContext> applicationContextProvider) {
+        BeanProvider<MicronautApplicationContext> applicationContextProvider,
+        BeanPostProcessorRegistry postProcessorRegistry) {
         this.beanFactoryProvider = beanFactoryProvider;
         this.environmentProvider = environmentProvider;
         this.applicationContextProvider = applicationContextProvider;
+        this.postProcessorRegistry = postProcessorRegistry;
     }
 
     @Override
     public Object onInitialized(BeanInitializingEvent<Object> event) {
         final Object bean = event.getBean();
-        if (bean instanceof MicronautContextInternal) {
-            return bean;
+        final BeanProcessingPlan plan = BeanProcessingPlan.of(bean.getClass());
+        if (!plan.internal) {
+            wireAwareObjects(plan, bean);
         }
-        wireAwareObjects(bean);
         return bean;
     }
 
-    private void wireAwareObjects(Object bean) {
-        if (bean instanceof BeanClassLoaderAware) {
+    private void wireAwareObjects(BeanProcessingPlan plan, Object bean) {
+        if (!plan.aware) {
+            return;
+        }
+        if (plan.beanClassLoaderAware) {
             ((BeanClassLoaderAware) bean).setBeanClassLoader(Objects.requireNonNull(applicationContextProvider.get().getClassLoader()));
         }
-        if (bean instanceof EnvironmentAware) {
+        if (plan.environmentAware) {
             ((EnvironmentAware) bean).setEnvironment(environmentProvider.get());
         }
-        if (bean instanceof BeanFactoryAware) {
+        if (plan.beanFactoryAware) {
             ((BeanFactoryAware) bean).setBeanFactory(beanFactoryProvider.get());
         }
-        if (bean instanceof ApplicationContextAware) {
+        if (plan.applicationContextAware) {
             ((ApplicationContextAware) bean).setApplicationContext(applicationContextProvider.get());
         }
-        if (bean instanceof ResourceLoaderAware) {
+        if (plan.resourceLoaderAware) {
             ((ResourceLoaderAware) bean).setResourceLoader(applicationContextProvider.get());
         }
     }
@@ -106,7 +112,7 @@ public class SpringAwareListener implements BeanInitializedEventListener<Object>
     @Override
     public Object onCreated(BeanCreatedEvent<Object> event) {
         final Object bean = event.getBean();
-        if (bean instanceof MicronautContextInternal) {
+        if (BeanProcessingPlan.of(bean.getClass()).internal) {
             return bean;
         }
         return onBeanCreated(event.getBeanDefinition(), bean, resolveBeanName(event));
@@ -143,13 +149,14 @@ public class SpringAwareListener implements BeanInitializedEventListener<Object>
      * @return The result
      */
     public Object onBeanCreated(@Nullable BeanDefinition<Object> beanDefinition, Object bean, String beanName) {
-        wireAwareObjects(bean);
-        if (!(bean instanceof BeanPostProcessor)) {
-            // init provider
-            initProcessors();
-            Collection<BeanPostProcessor> processors = beanPostProcessors;
-            for (BeanPostProcessor processor : processors) {
-                Object o = processor.postProcessBeforeInitialization(bean, beanName);
+        final Object original = bean;
+        final BeanProcessingPlan plan = BeanProcessingPlan.of(bean.getClass());
+        wireAwareObjects(plan, bean);
+        final BeanPostProcessorRegistry.Snapshot processors = plan.postProcessor ? null : postProcessorRegistry.get();
+        if (processors != null) {
+            final BeanPostProcessor[] before = processors.beforeInitialization();
+            for (int i = 0; i < before.length; i++) {
+                Object o = before[i].postProcessBeforeInitialization(bean, beanName);
                 if (o == null) {
                     break;
                 } else {
@@ -157,7 +164,8 @@ public class SpringAwareListener implements BeanInitializedEventListener<Object>
                 }
             }
         }
-        if (bean instanceof InitializingBean) {
+        // a post-processor may have replaced the bean with one of another type
+        if (bean == original ? plan.initializingBean : bean instanceof InitializingBean) {
             try {
                 ((InitializingBean) bean).afterPropertiesSet();
             } catch (Exception e) {
@@ -165,38 +173,38 @@ public class SpringAwareListener implements BeanInitializedEventListener<Object>
             }
         }
 
-        if (!(bean instanceof BeanPostProcessor)) {
-            int role = beanDefinition != null ? beanDefinition.intValue(Role.class)
-                                                              .orElse(ROLE_APPLICATION) : ROLE_APPLICATION;
-            if (role == ROLE_APPLICATION) {
-                initProcessors();
-                for (BeanPostProcessor processor : beanPostProcessors) {
-                    Object o = processor.postProcessAfterInitialization(bean, beanName);
-                    if (o == null) {
-                        break;
-                    } else {
-                        bean = o;
-                    }
+        if (processors != null && processors.afterInitialization().length > 0 && isApplicationRole(beanDefinition)) {
+            final BeanPostProcessor[] after = processors.afterInitialization();
+            for (int i = 0; i < after.length; i++) {
+                Object o = after[i].postProcessAfterInitialization(bean, beanName);
+                if (o == null) {
+                    break;
+                } else {
+                    bean = o;
                 }
             }
-
         }
         return bean;
     }
 
-    private void initProcessors() {
-        if (beanPostProcessors == null) {
-            beanPostProcessors = new ArrayList<>();
-            MicronautBeanFactory micronautBeanFactory = beanFactoryProvider.get();
-            Collection<BeanPostProcessor> processors = micronautBeanFactory.getBeanContext().getBeansOfType(BeanPostProcessor.class);
-            beanPostProcessors.addAll(processors);
+    private boolean isApplicationRole(@Nullable BeanDefinition<Object> beanDefinition) {
+        if (beanDefinition == null) {
+            return true;
         }
+        Boolean applicationRole = applicationRoles.get(beanDefinition);
+        if (applicationRole == null) {
+            applicationRole = beanDefinition.intValue(Role.class).orElse(ROLE_APPLICATION) == ROLE_APPLICATION;
+            applicationRoles.put(beanDefinition, applicationRole);
+        }
+        return applicationRole;
     }
 
     /**
      * Reset the bean processors.
+     * @deprecated Post-processors are added to and removed from the {@link BeanPostProcessorRegistry} incrementally
      */
+    @Deprecated
     public void resetPostProcessors() {
-        this.beanPostProcessors = null;
+        postProcessorRegistry.reset();
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.env;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import org.springframework.core.env.Profiles;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * The active profiles of a {@link MicronautEnvironment}, captured once along with the results of the profile checks
+ * made against them. At most {@value #MAX_CACHED_CHECKS} results are cached per kind of check.
+ *
+ * @since 5.9.0
+ */
+@Internal
+final class ActiveProfiles {
+
+    static final int MAX_CACHED_CHECKS = 256;
+
+    private final Set<String> names;
+    private final String[] array;
+    private final Predicate<String> active;
+    private final Map<Profiles, Boolean> profiles = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> expressions = new ConcurrentHashMap<>();
+
+    /**
+     * @param names The active environment names
+     */
+    ActiveProfiles(@NonNull Collection<String> names) {
+        this.names = Set.copyOf(names);
+        this.array = names.toArray(StringUtils.EMPTY_STRING_ARRAY);
+        this.active = this.names::contains;
+    }
+
+    /**
+     * @return The shared array of the active profiles
+     */
+    @NonNull
+    String[] toArray() {
+        return array;
+    }
+
+    /**
+     * @param profiles The profile names, each possibly negated with {@code !}
+     * @return Whether any of the profiles is active, or any negated profile is not
+     */
+    boolean accepts(@NonNull String... profiles) {
+        for (String profile : profiles) {
+            if (StringUtils.isNotEmpty(profile) && profile.charAt(0) == '!') {
+                if (!names.contains(profile.substring(1))) {
+                    return true;
+                }
+            } else if (names.contains(profile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param profiles The profiles
+     * @return Whether the profiles match
+     */
+    boolean matches(@NonNull Profiles profiles) {
+        Boolean matches = this.profiles.get(profiles);
+        if (matches == null) {
+            matches = profiles.matches(active);
+            cache(this.profiles, profiles, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * @param expression A profile expression as accepted by {@link Profiles#of(String...)}
+     * @return Whether the expression matches
+     */
+    boolean matches(@NonNull String expression) {
+        Boolean matches = expressions.get(expression);
+        if (matches == null) {
+            matches = Profiles.of(expression).matches(active);
+            cache(expressions, expression, matches);
+        }
+        return matches;
+    }
+
+    private static <K> void cache(Map<K, Boolean> cache, K key, Boolean value) {
+        if (cache.size() < MAX_CACHED_CHECKS) {
+            cache.putIfAbsent(key, value);
+        }
+    }
+}
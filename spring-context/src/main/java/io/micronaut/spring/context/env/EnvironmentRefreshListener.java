@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.env;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import jakarta.inject.Singleton;
+
+/**
+ * Invalidates the {@link PropertyCache} and property sources of the {@link MicronautEnvironment} when the Micronaut
+ * environment is refreshed.
+ *
+ * @since 5.9.0
+ */
+@Singleton
+@Requires(classes = RefreshEvent.class)
+@Internal
+final class EnvironmentRefreshListener implements ApplicationEventListener<RefreshEvent> {
+
+    private final MicronautEnvironment environment;
+
+    /**
+     * @param environment The environment
+     */
+    EnvironmentRefreshListener(MicronautEnvironment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        environment.refreshed();
+    }
+}
@@ -23,6 +23,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.spring.beans.MicronautContextInternal;
+import io.micronaut.spring.core.env.PlaceholderTemplate;
 import jakarta.inject.Singleton;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.env.*;
@@ -41,6 +42,9 @@ import java.util.*;
 @Internal
 public class MicronautEnvironment implements ConfigurableEnvironment, MicronautContextInternal {
     private final io.micronaut.context.env.Environment environment;
+    private final PropertyCache propertyCache;
+    private volatile MicronautPropertySources propertySources;
+    private volatile ActiveProfiles activeProfiles;
     private String[] requiredProperties;
     private ConfigurableConversionService conversionService;
 
@@ -50,11 +54,16 @@ public class MicronautEnvironment implements ConfigurableEnvironment, MicronautC
      */
     public MicronautEnvironment(io.micronaut.context.env.Environment environment) {
         this.environment = environment;
+        this.propertyCache = new PropertyCache(() -> environment.getPropertySources().size());
     }
 
+    /**
+     * The active profiles. The returned array is shared and must not be modified.
+     * @return The active profiles
+     */
     @Override
     public String[] getActiveProfiles() {
-        return environment.getActiveNames().toArray(new String[0]);
+        return activeProfiles().toArray();
     }
 
     @Override
@@ -65,22 +74,38 @@ public class MicronautEnvironment implements ConfigurableEnvironment, MicronautC
     @Override
     public boolean acceptsProfiles(@NonNull String... profiles) {
         Assert.notNull(profiles, "Profiles must not be null");
-        return Arrays.stream(profiles).anyMatch(p -> environment.getActiveNames().contains(p));
+        return activeProfiles().accepts(profiles);
     }
 
     @Override
     public boolean acceptsProfiles(@NonNull Profiles profiles) {
         Assert.notNull(profiles, "Profiles must not be null");
-        return profiles.matches(this::isProfileActive);
+        return activeProfiles().matches(profiles);
     }
 
-    private boolean isProfileActive(String profile) {
-        Set<String> currentActiveProfiles = environment.getActiveNames();
-        return currentActiveProfiles.contains(profile);
+    @Override
+    public boolean matchesProfiles(@NonNull String... profileExpressions) {
+        if (profileExpressions.length == 1) {
+            return activeProfiles().matches(profileExpressions[0]);
+        }
+        return acceptsProfiles(Profiles.of(profileExpressions));
+    }
+
+    private ActiveProfiles activeProfiles() {
+        ActiveProfiles current = activeProfiles;
+        if (current == null) {
+            current = new ActiveProfiles(environment.getActiveNames());
+            activeProfiles = current;
+        }
+        return current;
     }
 
     @Override
     public boolean containsProperty(String key) {
+        return propertyCache.contains(key, this::resolveContainsProperty);
+    }
+
+    private boolean resolveContainsProperty(String key) {
         return environment.containsProperty(key) || environment.containsProperties(key);
     }
 
@@ -88,20 +113,20 @@ public class MicronautEnvironment implements ConfigurableEnvironment, MicronautC
     public @Nullable
     String getProperty(@NonNull String key) {
         Assert.notNull(key, "Key must not be null");
-        return environment.getProperty(key, String.class).orElse(null);
+        return findProperty(key, String.class).orElse(null);
     }
 
     @Override
     public @NonNull String getProperty(@NonNull String key, @NonNull String defaultValue) {
         Assert.notNull(key, "Key must not be null");
-        return environment.getProperty(key, String.class).orElse(defaultValue);
+        return findProperty(key, String.class).orElse(defaultValue);
     }
 
     @Override
     public @Nullable <T> T getProperty(@NonNull String key, @NonNull Class<T> targetType) {
         Assert.notNull(key, "Key must not be null");
         Assert.notNull(targetType, "Target type must not be null");
-        return environment.getProperty(key, targetType).orElse(null);
+        return findProperty(key, targetType).orElse(null);
 
     }
 
@@ -109,14 +134,14 @@ public class MicronautEnvironment implements ConfigurableEnvironment, MicronautC
     public <T> T getProperty(@NonNull String key, @NonNull Class<T> targetType, @NonNull T defaultValue) {
         Assert.notNull(key, "Key must not be null");
         Assert.notNull(targetType, "Target type must not be null");
-        return environment.getProperty(key, targetType).orElse(defaultValue);
+        return findProperty(key, targetType).orElse(defaultValue);
     }
 
     @Override
     public String getRequiredProperty(@NonNull String key) throws IllegalStateException {
         Assert.notNull(key, "Key must not be null");
 
-        return environment.getProperty(key, String.class).orElseThrow(() -> new IllegalStateException("Property with key [" + key + "] not present"));
+        return findProperty(key, String.class).orElseThrow(() -> new IllegalStateException("Property with key [" + key + "] not present"));
     }
 
     @Override
@@ -124,19 +149,45 @@ public class MicronautEnvironment implements ConfigurableEnvironment, MicronautC
         Assert.notNull(key, "Key must not be null");
         Assert.notNull(targetType, "Target type must not be null");
 
-        return environment.getProperty(key, targetType).orElseThrow(() -> new IllegalStateException("Property with key [" + key + "] not present"));
+        return findProperty(key, targetType).orElseThrow(() -> new IllegalStateException("Property with key [" + key + "] not present"));
+    }
+
+    private <T> Optional<T> findProperty(String key, Class<T> targetType) {
+        return propertyCache.get(key, targetType, environment::getProperty);
+    }
+
+    /**
+     * The cache of the property values read through this environment. It is invalidated when the Micronaut
+     * environment is refreshed or property sources are added.
+     * @return The property cache
+     * @since 5.9.0
+     */
+    public @NonNull PropertyCache getPropertyCache() {
+        return propertyCache;
     }
 
     @Override
     public String resolvePlaceholders(@NonNull String text) {
+        final String resolved = PlaceholderTemplate.of(text).render(text, this::resolvePlaceholder);
+        if (resolved != null) {
+            return resolved;
+        }
         return environment.getPlaceholderResolver().resolvePlaceholders(text).orElse(text);
     }
 
     @Override
     public String resolveRequiredPlaceholders(@NonNull String text) throws IllegalArgumentException {
+        final String resolved = PlaceholderTemplate.of(text).render(text, this::resolvePlaceholder);
+        if (resolved != null) {
+            return resolved;
+        }
         return environment.getPlaceholderResolver().resolveRequiredPlaceholders(text);
     }
 
+    private String resolvePlaceholder(String key) {
+        return findProperty(key, String.class).orElse(null);
+    }
+
     /**
      * The target environment.
      * @return The environment
@@ -160,9 +211,29 @@ public class MicronautEnvironment implements ConfigurableEnvironment, MicronautC
         throw new UnsupportedOperationException("Method setDefaultProfiles not supported");
     }
 
+    /**
+     * A read-only view of the Micronaut property sources, highest precedence first. The view is rebuilt when the
+     * environment is refreshed or property sources are added.
+     * @return The property sources
+     */
     @Override
     public MutablePropertySources getPropertySources() {
-        return new MutablePropertySources();
+        final Collection<io.micronaut.context.env.PropertySource> sources = environment.getPropertySources();
+        MicronautPropertySources current = propertySources;
+        if (current == null || current.isStale(sources)) {
+            current = new MicronautPropertySources(sources);
+            propertySources = current;
+        }
+        return current;
+    }
+
+    /**
+     * Discards the state derived from the Micronaut environment after it has been refreshed.
+     */
+    void refreshed() {
+        propertyCache.invalidate();
+        propertySources = null;
+        activeProfiles = null;
     }
 
     @Override
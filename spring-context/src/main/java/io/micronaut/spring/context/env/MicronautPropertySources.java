@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.env;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A read-only Spring view of the Micronaut property sources, highest precedence first. Each Micronaut property source
+ * is wrapped once, with its property names enumerated up front.
+ *
+ * @since 5.9.0
+ */
+@Internal
+final class MicronautPropertySources extends MutablePropertySources {
+
+    private final int sourceCount;
+    private final boolean frozen;
+
+    /**
+     * @param sources The Micronaut property sources
+     */
+    MicronautPropertySources(@NonNull Collection<io.micronaut.context.env.PropertySource> sources) {
+        final List<io.micronaut.context.env.PropertySource> ordered = new ArrayList<>(sources);
+        // Micronaut property sources with a higher order override those with a lower order
+        ordered.sort(Comparator.comparingInt(io.micronaut.context.env.PropertySource::getOrder).reversed());
+        for (io.micronaut.context.env.PropertySource source : ordered) {
+            super.addLast(new Adapter(source));
+        }
+        this.sourceCount = sources.size();
+        this.frozen = true;
+    }
+
+    /**
+     * @param sources The current Micronaut property sources
+     * @return Whether this view was built from a different number of property sources
+     */
+    boolean isStale(@NonNull Collection<io.micronaut.context.env.PropertySource> sources) {
+        return sources.size() != sourceCount;
+    }
+
+    @Override
+    public void addFirst(PropertySource<?> propertySource) {
+        checkNotFrozen();
+        super.addFirst(propertySource);
+    }
+
+    @Override
+    public void addLast(PropertySource<?> propertySource) {
+        checkNotFrozen();
+        super.addLast(propertySource);
+    }
+
+    @Override
+    public void addBefore(String relativePropertySourceName, PropertySource<?> propertySource) {
+        checkNotFrozen();
+        super.addBefore(relativePropertySourceName, propertySource);
+    }
+
+    @Override
+    public void addAfter(String relativePropertySourceName, PropertySource<?> propertySource) {
+        checkNotFrozen();
+        super.addAfter(relativePropertySourceName, propertySource);
+    }
+
+    @Override
+    public PropertySource<?> remove(String name) {
+        checkNotFrozen();
+        return super.remove(name);
+    }
+
+    @Override
+    public void replace(String name, PropertySource<?> propertySource) {
+        checkNotFrozen();
+        super.replace(name, propertySource);
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("The property sources of the Micronaut environment are read-only");
+        }
+    }
+
+    /**
+     * Adapts a Micronaut property source.
+     */
+    private static final class Adapter extends EnumerablePropertySource<io.micronaut.context.env.PropertySource> {
+        private final String[] propertyNames;
+
+        Adapter(io.micronaut.context.env.PropertySource source) {
+            super(source.getName(), source);
+            final List<String> names = new ArrayList<>();
+            for (String name : source) {
+                names.add(name);
+            }
+            this.propertyNames = names.toArray(StringUtils.EMPTY_STRING_ARRAY);
+        }
+
+        @Override
+        public String[] getPropertyNames() {
+            // shared, callers only enumerate the names
+            return propertyNames;
+        }
+
+        @Override
+        public boolean containsProperty(String name) {
+            return source.get(name) != null;
+        }
+
+        @Override
+        @Nullable
+        public Object getProperty(String name) {
+            return source.get(name);
+        }
+    }
+}
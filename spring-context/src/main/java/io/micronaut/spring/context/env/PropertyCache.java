@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.env;
+
+import io.micronaut.core.annotation.NonNull;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Cache of the converted property values read through {@link MicronautEnvironment}, keyed by property name and target
+ * type.
+ *
+ * <p>Only immutable value types, that is strings, primitives and their wrappers, enums and classes, are cached, so that
+ * callers never share a mutable value. The cache is discarded as a whole on {@link #invalidate()}, which happens when
+ * the Micronaut environment is refreshed, and when the number of property sources of the environment changes, so
+ * that sources added at runtime are seen. Replacing a source with one of the same name requires a refresh. Values
+ * resolved while the cache is discarded are stored in the discarded instance and therefore never become visible. At
+ * most {@value #MAX_ENTRIES} entries are kept.</p>
+ *
+ * @since 5.9.0
+ */
+public final class PropertyCache {
+
+    /**
+     * The maximum number of cached entries.
+     */
+    public static final int MAX_ENTRIES = 4096;
+
+    private static final ClassValue<Boolean> CACHEABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type == String.class || ClassUtils.isPrimitiveOrWrapper(type) || type.isEnum() || type == Class.class;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final IntSupplier sourceCount;
+    private volatile Entries entries;
+
+    /**
+     * @param sourceCount Supplies the current number of property sources of the environment
+     */
+    PropertyCache(IntSupplier sourceCount) {
+        this.sourceCount = sourceCount;
+        this.entries = new Entries(sourceCount.getAsInt());
+    }
+
+    /**
+     * @param key The property name
+     * @param type The target type
+     * @param resolver Resolves the value if it is not cached
+     * @param <T> The target type
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    <T> Optional<T> get(String key, Class<T> type, BiFunction<String, Class<T>, Optional<T>> resolver) {
+        if (!isCacheable(type)) {
+            return resolver.apply(key, type);
+        }
+        final Entries current = entries();
+        Map<String, Optional<?>> values = current.values.get(type);
+        if (values == null) {
+            values = current.values.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        }
+        Optional<T> value = (Optional<T>) values.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = resolver.apply(key, type);
+        if (current.reserve() && values.putIfAbsent(key, value) != null) {
+            current.size.decrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * @param key The property name
+     * @param resolver Resolves whether the property exists if it is not cached
+     * @return Whether the property exists
+     */
+    boolean contains(String key, Predicate<String> resolver) {
+        final Entries current = entries();
+        Boolean contains = current.contains.get(key);
+        if (contains != null) {
+            hits.increment();
+            return contains;
+        }
+        misses.increment();
+        contains = resolver.test(key);
+        if (current.reserve() && current.contains.putIfAbsent(key, contains) != null) {
+            current.size.decrementAndGet();
+        }
+        return contains;
+    }
+
+    /**
+     * Discards all cached values.
+     */
+    public void invalidate() {
+        entries = new Entries(sourceCount.getAsInt());
+    }
+
+    private Entries entries() {
+        final Entries current = entries;
+        final int count = sourceCount.getAsInt();
+        if (current.sourceCount == count) {
+            return current;
+        }
+        final Entries updated = new Entries(count);
+        entries = updated;
+        return updated;
+    }
+
+    /**
+     * @return The number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that were resolved against the environment
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The ratio of cached lookups to all lookups, {@code 0} if there were none
+     */
+    public double getHitRate() {
+        final long h = hits.sum();
+        final long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * @return The number of cached entries
+     */
+    public int getEntryCount() {
+        return entries.size.get();
+    }
+
+    private static boolean isCacheable(@NonNull Class<?> type) {
+        return CACHEABLE.get(type);
+    }
+
+    /**
+     * The cached entries of one version of the environment.
+     */
+    private static final class Entries {
+        private final Map<Class<?>, Map<String, Optional<?>>> values = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> contains = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int sourceCount;
+
+        Entries(int sourceCount) {
+            this.sourceCount = sourceCount;
+        }
+
+        boolean reserve() {
+            if (size.incrementAndGet() > MAX_ENTRIES) {
+                size.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+    }
+}
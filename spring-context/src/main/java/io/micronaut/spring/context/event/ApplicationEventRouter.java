@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.event;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.reflect.GenericTypeUtils;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.spring.beans.MicronautContextInternal;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes Spring {@link ApplicationEvent} instances to the {@link ApplicationListener} beans declared for their type.
+ *
+ * <p>The event type of each listener is taken from the type arguments computed at compile time for its bean
+ * definition. The ordered listeners for an event type are resolved on the first event of that type, publishing
+ * afterwards only iterates an array. Adding or removing a listener {@link #reset() resets} the routes.</p>
+ *
+ * @since 5.9.0
+ */
+@Singleton
+@Internal
+public final class ApplicationEventRouter implements MicronautContextInternal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationEventRouter.class);
+    private static final ApplicationListener<ApplicationEvent>[] NO_LISTENERS = new ApplicationListener[0];
+
+    private final BeanContext beanContext;
+    private volatile Generation generation = new Generation();
+
+    /**
+     * Default constructor.
+     * @param beanContext The bean context
+     */
+    public ApplicationEventRouter(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * Publishes the event to the listeners of its type.
+     * @param event The event
+     */
+    public void publish(@NonNull ApplicationEvent event) {
+        for (ApplicationListener<ApplicationEvent> listener : getListeners(event.getClass())) {
+            invoke(listener, event);
+        }
+    }
+
+    /**
+     * Publishes the event only to the listeners declared for exactly its type, not to listeners of a super type.
+     * Used for the {@link org.springframework.context.event.ContextRefreshedEvent} published on startup, which has
+     * always been delivered that way.
+     * @param event The event
+     */
+    public void publishToDeclaredType(@NonNull ApplicationEvent event) {
+        final List<ApplicationListener<ApplicationEvent>> listeners = new ArrayList<>();
+        for (ListenerDefinition listenerDefinition : getListenerDefinitions(generation)) {
+            if (listenerDefinition.eventType == event.getClass()) {
+                listeners.add(beanContext.getBean(listenerDefinition.definition));
+            }
+        }
+        AnnotationAwareOrderComparator.sort(listeners);
+        for (ApplicationListener<ApplicationEvent> listener : listeners) {
+            invoke(listener, event);
+        }
+    }
+
+    /**
+     * Invokes a listener, ignoring a {@link ClassCastException} for the event itself like Spring's
+     * {@link org.springframework.context.event.SimpleApplicationEventMulticaster}. The event type of a listener
+     * implemented as a lambda can not be resolved, so it is routed every event.
+     * @param listener The listener
+     * @param event The event
+     */
+    static void invoke(ApplicationListener<ApplicationEvent> listener, ApplicationEvent event) {
+        try {
+            listener.onApplicationEvent(event);
+        } catch (ClassCastException e) {
+            final String message = e.getMessage();
+            if (message == null || matchesClassCastMessage(message, event.getClass())) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Non-matching event type for listener: {}", listener, e);
+                }
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private static boolean matchesClassCastMessage(String message, Class<?> eventClass) {
+        final String name = eventClass.getName();
+        return message.startsWith(name) || message.startsWith("class " + name) || message.contains("/" + name + " ");
+    }
+
+    /**
+     * Returns the ordered listeners for the given event type.
+     * @param eventType The event type
+     * @return The listeners
+     */
+    @NonNull
+    public ApplicationListener<ApplicationEvent>[] getListeners(@NonNull Class<? extends ApplicationEvent> eventType) {
+        // routes resolved from a generation that was reset meanwhile are stored in the discarded generation
+        final Generation current = generation;
+        ApplicationListener<ApplicationEvent>[] listeners = current.routes.get(eventType);
+        if (listeners == null) {
+            // not computeIfAbsent since creating a listener may publish events
+            listeners = resolveListeners(current, eventType);
+            final ApplicationListener<ApplicationEvent>[] existing = current.routes.putIfAbsent(eventType, listeners);
+            if (existing != null) {
+                listeners = existing;
+            }
+        }
+        return listeners;
+    }
+
+    /**
+     * Discards the routes, for example after a listener was added or removed.
+     */
+    public void reset() {
+        generation = new Generation();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ApplicationListener<ApplicationEvent>[] resolveListeners(Generation current, Class<? extends ApplicationEvent> eventType) {
+        List<ApplicationListener<ApplicationEvent>> listeners = new ArrayList<>();
+        for (ListenerDefinition listenerDefinition : getListenerDefinitions(current)) {
+            if (listenerDefinition.eventType.isAssignableFrom(eventType)) {
+                ApplicationListener<ApplicationEvent> listener = beanContext.getBean(listenerDefinition.definition);
+                if (!(listener instanceof SmartApplicationListener) || ((SmartApplicationListener) listener).supportsEventType(eventType)) {
+                    listeners.add(listener);
+                }
+            }
+        }
+        if (listeners.isEmpty()) {
+            return NO_LISTENERS;
+        }
+        AnnotationAwareOrderComparator.sort(listeners);
+        return listeners.toArray(NO_LISTENERS);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<ListenerDefinition> getListenerDefinitions(Generation current) {
+        List<ListenerDefinition> definitions = current.listenerDefinitions;
+        if (definitions == null) {
+            Collection<BeanDefinition<ApplicationListener>> beanDefinitions = beanContext.getBeanDefinitions(ApplicationListener.class);
+            definitions = new ArrayList<>(beanDefinitions.size());
+            for (BeanDefinition<ApplicationListener> definition : beanDefinitions) {
+                definitions.add(new ListenerDefinition((BeanDefinition) definition, resolveEventType(definition)));
+            }
+            current.listenerDefinitions = definitions;
+        }
+        return definitions;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Class<?> resolveEventType(BeanDefinition<ApplicationListener> definition) {
+        List<Argument<?>> typeArguments = definition.getTypeArguments(ApplicationListener.class);
+        if (!typeArguments.isEmpty()) {
+            return typeArguments.get(0).getType();
+        }
+        // listeners registered at runtime carry no type arguments
+        return GenericTypeUtils.resolveInterfaceTypeArgument(definition.getBeanType(), ApplicationListener.class)
+            .orElse(ApplicationEvent.class);
+    }
+
+    /**
+     * The routes computed for one set of listeners.
+     */
+    private static final class Generation {
+        private final Map<Class<?>, ApplicationListener<ApplicationEvent>[]> routes = new ConcurrentHashMap<>();
+        private volatile List<ListenerDefinition> listenerDefinitions;
+    }
+
+    /**
+     * A listener definition along with the event type it accepts.
+     */
+    private static final class ListenerDefinition {
+        private final BeanDefinition<ApplicationListener<ApplicationEvent>> definition;
+        private final Class<?> eventType;
+
+        private ListenerDefinition(BeanDefinition<ApplicationListener<ApplicationEvent>> definition, Class<?> eventType) {
+            this.definition = definition;
+            this.eventType = eventType;
+        }
+    }
+}
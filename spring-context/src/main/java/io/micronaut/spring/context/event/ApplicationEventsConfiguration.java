@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.event;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.spring.beans.MicronautContextInternal;
+
+/**
+ * Configuration for the publishing of Spring application events.
+ *
+ * @since 5.9.0
+ */
+@ConfigurationProperties(ApplicationEventsConfiguration.PREFIX)
+public class ApplicationEventsConfiguration implements MicronautContextInternal {
+    public static final String PREFIX = "micronaut.spring.context.events";
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private boolean async;
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private int batchSize = 1;
+    private String executor = TaskExecutors.BLOCKING;
+
+    /**
+     * Whether events are dispatched to listeners asynchronously instead of on the publishing thread. Defaults to
+     * {@code false}.
+     * @return True if events are dispatched asynchronously
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Whether events are dispatched to listeners asynchronously instead of on the publishing thread.
+     * @param async True if events are dispatched asynchronously
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * The maximum number of events waiting to be dispatched. Defaults to {@code 1024}.
+     * @return The queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * The maximum number of events waiting to be dispatched.
+     * @param queueCapacity The queue capacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be greater than zero");
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * What happens when an event is published while the queue is full. Defaults to {@link OverflowPolicy#BLOCK}.
+     * @return The overflow policy
+     */
+    public @NonNull OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * What happens when an event is published while the queue is full.
+     * @param overflowPolicy The overflow policy
+     */
+    public void setOverflowPolicy(@NonNull OverflowPolicy overflowPolicy) {
+        ArgumentUtils.requireNonNull("overflowPolicy", overflowPolicy);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * The maximum number of consecutive events of the same type passed at once to a
+     * {@link BatchingApplicationListener}. Defaults to {@code 1}, which disables batching.
+     * @return The batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of consecutive events of the same type passed at once to a
+     * {@link BatchingApplicationListener}.
+     * @param batchSize The batch size
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than zero");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * The name of the executor that dispatches events. Defaults to {@value TaskExecutors#BLOCKING}, which uses virtual
+     * threads where available.
+     * @return The executor name
+     */
+    public @NonNull String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The name of the executor that dispatches events.
+     * @param executor The executor name
+     */
+    public void setExecutor(@NonNull String executor) {
+        ArgumentUtils.requireNonNull("executor", executor);
+        this.executor = executor;
+    }
+
+    /**
+     * What happens when an event is published while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The publishing thread waits for space in the queue.
+         */
+        BLOCK,
+        /**
+         * The event is discarded.
+         */
+        DROP,
+        /**
+         * The event is dispatched on the publishing thread, possibly before events that are still queued.
+         */
+        CALLER_RUNS
+    }
+}
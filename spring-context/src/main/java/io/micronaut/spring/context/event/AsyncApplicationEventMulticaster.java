@@ -0,0 +1,315 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.event;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.spring.beans.MicronautContextInternal;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatches Spring application events asynchronously through a bounded queue.
+ *
+ * <p>At most one task drains the queue at any time, so every listener receives events in the order they were
+ * published unless the {@link ApplicationEventsConfiguration.OverflowPolicy#CALLER_RUNS} policy applies. Consecutive
+ * events of the same type are passed together to {@link BatchingApplicationListener} instances when the configured
+ * batch size is greater than one. If the executor rejects the drain task, or once the multicaster is closed, the
+ * publishing thread drains the queue itself.</p>
+ *
+ * @since 5.9.0
+ */
+@Singleton
+@Requires(property = ApplicationEventsConfiguration.PREFIX + ".async", value = StringUtils.TRUE)
+public final class AsyncApplicationEventMulticaster implements MicronautContextInternal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncApplicationEventMulticaster.class);
+
+    private final io.micronaut.context.event.ApplicationEventPublisher<Object> eventPublisher;
+    private final ApplicationEventRouter eventRouter;
+    private final ExecutorService executor;
+    private final ApplicationEventsConfiguration.OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final LongAdder dispatchedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder dispatchedBatches = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private volatile Thread drainingThread;
+    private volatile boolean closed;
+
+    /**
+     * Default constructor.
+     * @param configuration The configuration
+     * @param beanContext The bean context
+     * @param eventPublisher The Micronaut event publisher
+     * @param eventRouter The router for Spring application listeners
+     */
+    AsyncApplicationEventMulticaster(ApplicationEventsConfiguration configuration,
+                                     BeanContext beanContext,
+                                     io.micronaut.context.event.ApplicationEventPublisher<Object> eventPublisher,
+                                     ApplicationEventRouter eventRouter) {
+        this.eventPublisher = eventPublisher;
+        this.eventRouter = eventRouter;
+        this.executor = beanContext.getBean(ExecutorService.class, Qualifiers.byName(configuration.getExecutor()));
+        this.overflowPolicy = configuration.getOverflowPolicy();
+        this.batchSize = configuration.getBatchSize();
+        this.queue = new ArrayBlockingQueue<>(configuration.getQueueCapacity());
+    }
+
+    /**
+     * Queues an event for dispatch to the Micronaut event listeners and the Spring application listeners.
+     * @param event The event
+     */
+    public void multicast(@NonNull ApplicationEvent event) {
+        QueuedEvent queued = new QueuedEvent(event);
+        if (Thread.currentThread() == drainingThread) {
+            // a listener publishing while the queue is full would otherwise wait for itself
+            if (!queue.offer(queued)) {
+                dispatch(queued);
+            }
+            return;
+        }
+        if (!queue.offer(queued)) {
+            switch (overflowPolicy) {
+                case DROP:
+                    droppedEvents.increment();
+                    return;
+                case CALLER_RUNS:
+                    dispatch(queued);
+                    return;
+                default:
+                    try {
+                        queue.put(queued);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        droppedEvents.increment();
+                        return;
+                    }
+            }
+        }
+        if (draining.compareAndSet(false, true)) {
+            if (closed) {
+                // the executor may already be shut down
+                drain();
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Application event dispatch rejected by the executor, dispatching on the publishing thread", e);
+                }
+                // the queued events would otherwise never be dispatched
+                drain();
+            }
+        }
+    }
+
+    /**
+     * @return The number of events waiting to be dispatched
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return The number of events dispatched so far
+     */
+    public long getDispatchedEvents() {
+        return dispatchedEvents.sum();
+    }
+
+    /**
+     * @return The number of events discarded because the queue was full
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * @return The number of batches of events passed to {@link BatchingApplicationListener} instances so far
+     */
+    public long getDispatchedBatches() {
+        return dispatchedBatches.sum();
+    }
+
+    /**
+     * @return The average time between publishing an event and dispatching it
+     */
+    public @NonNull Duration getAverageDispatchLatency() {
+        long count = dispatchedEvents.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalLatency.sum() / count);
+    }
+
+    /**
+     * @return The longest time between publishing an event and dispatching it
+     */
+    public @NonNull Duration getMaxDispatchLatency() {
+        return Duration.ofNanos(maxLatency.get());
+    }
+
+    /**
+     * Dispatches the remaining events on the closing thread unless a drain task is still running. Events published
+     * afterwards are still queued behind any remaining events, and dispatched on the publishing thread if no drain is
+     * running.
+     */
+    @PreDestroy
+    void close() {
+        closed = true;
+        if (draining.compareAndSet(false, true)) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        drainingThread = Thread.currentThread();
+        List<QueuedEvent> batch = new ArrayList<>(batchSize);
+        boolean released = false;
+        try {
+            while (true) {
+                queue.drainTo(batch, batchSize);
+                if (batch.isEmpty()) {
+                    draining.set(false);
+                    released = true;
+                    // an event queued after the drain above but before the flag was cleared has no task yet
+                    if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    released = false;
+                    continue;
+                }
+                dispatch(batch);
+                batch.clear();
+            }
+        } finally {
+            drainingThread = null;
+            if (!released) {
+                // let the next published event start a new drain
+                draining.set(false);
+            }
+        }
+    }
+
+    private void dispatch(List<QueuedEvent> batch) {
+        int start = 0;
+        int size = batch.size();
+        while (start < size) {
+            Class<? extends ApplicationEvent> eventType = batch.get(start).event.getClass();
+            int end = start + 1;
+            while (end < size && batch.get(end).event.getClass() == eventType) {
+                end++;
+            }
+            if (end - start == 1) {
+                dispatch(batch.get(start));
+            } else {
+                dispatchRun(eventType, batch.subList(start, end));
+            }
+            start = end;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void dispatchRun(Class<? extends ApplicationEvent> eventType, List<QueuedEvent> run) {
+        List<ApplicationEvent> events = new ArrayList<>(run.size());
+        for (QueuedEvent queued : run) {
+            recordLatency(queued);
+            events.add(queued.event);
+            publish(queued.event);
+        }
+        for (ApplicationListener<ApplicationEvent> listener : eventRouter.getListeners(eventType)) {
+            try {
+                if (listener instanceof BatchingApplicationListener) {
+                    dispatchedBatches.increment();
+                    ((BatchingApplicationListener) listener).onApplicationEvents(events);
+                } else {
+                    for (ApplicationEvent event : events) {
+                        ApplicationEventRouter.invoke(listener, event);
+                    }
+                }
+            } catch (RuntimeException e) {
+                handleError(e);
+            }
+        }
+    }
+
+    private void dispatch(QueuedEvent queued) {
+        recordLatency(queued);
+        publish(queued.event);
+        for (ApplicationListener<ApplicationEvent> listener : eventRouter.getListeners(queued.event.getClass())) {
+            try {
+                ApplicationEventRouter.invoke(listener, queued.event);
+            } catch (RuntimeException e) {
+                handleError(e);
+            }
+        }
+    }
+
+    private void publish(ApplicationEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            handleError(e);
+        }
+    }
+
+    private void recordLatency(QueuedEvent queued) {
+        long latency = System.nanoTime() - queued.queuedAt;
+        dispatchedEvents.increment();
+        totalLatency.add(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    private static void handleError(RuntimeException e) {
+        // a failing listener must not stop the dispatch to the others
+        if (LOG.isErrorEnabled()) {
+            LOG.error("Error dispatching application event: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * An event along with the time it was published.
+     */
+    private static final class QueuedEvent {
+        private final ApplicationEvent event;
+        private final long queuedAt;
+
+        private QueuedEvent(ApplicationEvent event) {
+            this.event = event;
+            this.queuedAt = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.event;
+
+import io.micronaut.core.annotation.NonNull;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.List;
+
+/**
+ * An {@link ApplicationListener} that can receive several consecutive events of the same type at once when events are
+ * published asynchronously with a batch size greater than one.
+ *
+ * @param <E> The event type
+ * @see ApplicationEventsConfiguration#getBatchSize()
+ * @since 5.9.0
+ */
+public interface BatchingApplicationListener<E extends ApplicationEvent> extends ApplicationListener<E> {
+
+    /**
+     * Handles events in the order they were published.
+     * @param events The events
+     */
+    default void onApplicationEvents(@NonNull List<E> events) {
+        for (E event : events) {
+            onApplicationEvent(event);
+        }
+    }
+}
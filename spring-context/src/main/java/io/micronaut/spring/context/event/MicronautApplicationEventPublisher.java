@@ -17,6 +17,7 @@ package io.micronaut.spring.context.event;
 
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.spring.beans.MicronautContextInternal;
 import jakarta.inject.Singleton;
 import org.springframework.context.ApplicationEvent;
@@ -33,22 +34,39 @@ import org.springframework.context.ApplicationEventPublisher;
 public class MicronautApplicationEventPublisher implements ApplicationEventPublisher, MicronautContextInternal {
 
     private final io.micronaut.context.event.ApplicationEventPublisher eventPublisher;
+    private final ApplicationEventRouter eventRouter;
+    private final AsyncApplicationEventMulticaster multicaster;
 
     /**
      * Default constructor.
      * @param eventPublisher The event publisher to adapt
+     * @param eventRouter The router for Spring application listeners
+     * @param multicaster The asynchronous multicaster if enabled
      */
-    public MicronautApplicationEventPublisher(io.micronaut.context.event.ApplicationEventPublisher eventPublisher) {
+    public MicronautApplicationEventPublisher(io.micronaut.context.event.ApplicationEventPublisher eventPublisher,
+                                              ApplicationEventRouter eventRouter,
+                                              @Nullable AsyncApplicationEventMulticaster multicaster) {
         this.eventPublisher = eventPublisher;
+        this.eventRouter = eventRouter;
+        this.multicaster = multicaster;
     }
 
     @Override
     public void publishEvent(ApplicationEvent event) {
-        eventPublisher.publishEvent(event);
+        if (multicaster != null) {
+            multicaster.multicast(event);
+        } else {
+            eventPublisher.publishEvent(event);
+            eventRouter.publish(event);
+        }
     }
 
     @Override
     public void publishEvent(Object event) {
-        eventPublisher.publishEvent(event);
+        if (event instanceof ApplicationEvent) {
+            publishEvent((ApplicationEvent) event);
+        } else {
+            eventPublisher.publishEvent(event);
+        }
     }
 }
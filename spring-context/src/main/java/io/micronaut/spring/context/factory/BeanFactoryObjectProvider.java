@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ParametrizedInstantiatableBeanDefinition;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.OrderComparator;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * The {@link ObjectProvider} returned by {@link MicronautBeanFactory#getBeanProvider(Class)}.
+ *
+ * <p>The candidate definitions are taken from the bean context on every call, so that beans registered directly with
+ * the context are seen. While the context returns the same definitions, the filtered candidates, the unique candidate
+ * and the order established by the first {@link #orderedStream()} are reused. Uniqueness is decided from the
+ * definitions without creating beans.</p>
+ *
+ * @param <T> The bean type
+ * @since 5.9.0
+ */
+@Internal
+final class BeanFactoryObjectProvider<T> implements ObjectProvider<T> {
+
+    private static final BeanDefinition<?>[] NO_CANDIDATES = new BeanDefinition[0];
+
+    private final BeanContext beanContext;
+    private final Class<T> requiredType;
+    private final boolean excluded;
+    private volatile Candidates<T> candidates;
+
+    /**
+     * @param beanContext The bean context
+     * @param requiredType The required type
+     * @param excluded Whether the type is excluded from Spring lookups
+     */
+    BeanFactoryObjectProvider(@NonNull BeanContext beanContext,
+                              @NonNull Class<T> requiredType,
+                              boolean excluded) {
+        this.beanContext = beanContext;
+        this.requiredType = requiredType;
+        this.excluded = excluded;
+    }
+
+    @Override
+    public T getObject(Object... args) throws BeansException {
+        return beanContext.createBean(requiredType, args);
+    }
+
+    @Override
+    public T getObject() throws BeansException {
+        return beanContext.getBean(requiredType);
+    }
+
+    @Override
+    public T getIfAvailable() throws BeansException {
+        return candidates().definitions.length > 0 ? beanContext.getBean(requiredType) : null;
+    }
+
+    @Override
+    public T getIfUnique() throws BeansException {
+        final BeanDefinition<T> unique = candidates().unique;
+        return unique != null ? beanContext.getBean(unique) : null;
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Arrays.stream(candidates().definitions).map(beanContext::getBean);
+    }
+
+    @Override
+    public Stream<T> orderedStream() {
+        final Candidates<T> current = candidates();
+        BeanDefinition<T>[] ordered = current.ordered;
+        if (ordered == null) {
+            final List<Map.Entry<BeanDefinition<T>, T>> beans = new ArrayList<>(current.definitions.length);
+            for (BeanDefinition<T> definition : current.definitions) {
+                beans.add(new AbstractMap.SimpleImmutableEntry<>(definition, beanContext.getBean(definition)));
+            }
+            beans.sort((a, b) -> OrderComparator.INSTANCE.compare(a.getValue(), b.getValue()));
+            ordered = current.definitions.clone();
+            for (int i = 0; i < ordered.length; i++) {
+                ordered[i] = beans.get(i).getKey();
+            }
+            current.ordered = ordered;
+            return beans.stream().map(Map.Entry::getValue);
+        }
+        return Arrays.stream(ordered).map(beanContext::getBean);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Candidates<T> candidates() {
+        final Collection<BeanDefinition<T>> beanDefinitions = excluded ? Collections.emptyList() : beanContext.getBeanDefinitions(requiredType);
+        Candidates<T> current = candidates;
+        if (current == null || !current.isFor(beanDefinitions)) {
+            // the definitions are cached by the context until a definition or singleton is registered with it
+            final List<BeanDefinition<T>> filtered = new ArrayList<>(beanDefinitions.size());
+            for (BeanDefinition<T> definition : beanDefinitions) {
+                if (!(definition instanceof ParametrizedInstantiatableBeanDefinition)) {
+                    filtered.add(definition);
+                }
+            }
+            current = new Candidates<>(
+                beanDefinitions.toArray((BeanDefinition<T>[]) NO_CANDIDATES),
+                filtered.toArray((BeanDefinition<T>[]) NO_CANDIDATES)
+            );
+            candidates = current;
+        }
+        return current;
+    }
+
+    /**
+     * The candidates resolved for the definitions the context returned.
+     *
+     * @param <T> The bean type
+     */
+    private static final class Candidates<T> {
+        private final BeanDefinition<T>[] resolvedFrom;
+        private final BeanDefinition<T>[] definitions;
+        private final BeanDefinition<T> unique;
+        private volatile BeanDefinition<T>[] ordered;
+
+        private Candidates(BeanDefinition<T>[] resolvedFrom, BeanDefinition<T>[] definitions) {
+            this.resolvedFrom = resolvedFrom;
+            this.definitions = definitions;
+            this.unique = findUnique(definitions);
+        }
+
+        private boolean isFor(Collection<BeanDefinition<T>> beanDefinitions) {
+            if (beanDefinitions.size() != resolvedFrom.length) {
+                return false;
+            }
+            int i = 0;
+            for (BeanDefinition<T> definition : beanDefinitions) {
+                if (definition != resolvedFrom[i++]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static <T> BeanDefinition<T> findUnique(BeanDefinition<T>[] definitions) {
+            if (definitions.length == 1) {
+                return definitions[0];
+            }
+            BeanDefinition<T> primary = null;
+            for (BeanDefinition<T> definition : definitions) {
+                if (definition.isPrimary()) {
+                    if (primary != null) {
+                        return null;
+                    }
+                    primary = definition;
+                }
+            }
+            return primary;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A build-time index of the Spring bean names computed for Micronaut bean definitions. The index is written
+ * by the {@code spring-annotation} processor and allows {@link MicronautBeanFactory} to defer loading bean
+ * definitions until a bean name is first requested.
+ *
+ * <p>Each line of the index holds the bean definition class name, the bean type, the optional qualifier
+ * name and the optional explicit Spring bean name separated by tabs.</p>
+ *
+ * @since 5.9.0
+ */
+@Internal
+public final class BeanNameIndex {
+
+    /**
+     * The path of the index relative to the {@code META-INF} directory.
+     */
+    public static final String PATH = "micronaut/spring/bean-names";
+
+    static final BeanNameIndex EMPTY = new BeanNameIndex(Collections.emptyMap());
+
+    private static final char SEPARATOR = '\t';
+    private static final int FIELD_COUNT = 4;
+
+    private final Map<String, Entry> entries;
+
+    private BeanNameIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads all the indexes present on the classpath.
+     *
+     * @param classLoader The class loader
+     * @return The merged index
+     */
+    public static @NonNull BeanNameIndex load(@NonNull ClassLoader classLoader) {
+        Map<String, Entry> entries = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources("META-INF/" + PATH);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                try (InputStream in = url.openStream();
+                     BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        Entry entry = Entry.parse(line);
+                        if (entry != null) {
+                            entries.put(entry.definitionName, entry);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new ConfigurationException("Error reading Spring bean name index: " + e.getMessage(), e);
+        }
+        return entries.isEmpty() ? EMPTY : new BeanNameIndex(entries);
+    }
+
+    /**
+     * Writes the given entries in the index format.
+     *
+     * @param entries The entries
+     * @param writer The writer
+     * @throws IOException If an I/O error occurs
+     */
+    public static void write(@NonNull Collection<Entry> entries, @NonNull Writer writer) throws IOException {
+        for (Entry entry : entries) {
+            writer.write(entry.definitionName);
+            writer.write(SEPARATOR);
+            writer.write(entry.beanTypeName);
+            writer.write(SEPARATOR);
+            writer.write(entry.qualifierName != null ? entry.qualifierName : "");
+            writer.write(SEPARATOR);
+            writer.write(entry.springName != null ? entry.springName : "");
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Finds the entry for the given bean definition class name.
+     *
+     * @param definitionName The bean definition class name
+     * @return The entry or {@code null}
+     */
+    public @Nullable Entry find(@NonNull String definitionName) {
+        return entries.get(definitionName);
+    }
+
+    /**
+     * @return Whether the index is empty
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * An entry within the index.
+     */
+    public static final class Entry {
+        private final String definitionName;
+        private final String beanTypeName;
+        private final String qualifierName;
+        private final String springName;
+
+        /**
+         * Default constructor.
+         *
+         * @param definitionName The bean definition class name
+         * @param beanTypeName The bean type name
+         * @param qualifierName The qualifier name, if any
+         * @param springName The explicit Spring bean name, if any
+         */
+        public Entry(@NonNull String definitionName,
+                     @NonNull String beanTypeName,
+                     @Nullable String qualifierName,
+                     @Nullable String springName) {
+            this.definitionName = definitionName;
+            this.beanTypeName = beanTypeName;
+            this.qualifierName = StringUtils.isNotEmpty(qualifierName) ? qualifierName : null;
+            this.springName = StringUtils.isNotEmpty(springName) ? springName : null;
+        }
+
+        /**
+         * @return The bean definition class name
+         */
+        public @NonNull String getDefinitionName() {
+            return definitionName;
+        }
+
+        /**
+         * @return The explicit Spring bean name declared via {@code @Component} or {@code @Bean}, if any
+         */
+        public @Nullable String getSpringName() {
+            return springName;
+        }
+
+        /**
+         * The bean name as computed by {@link MicronautBeanFactory} for the loaded definition.
+         *
+         * @return The bean name
+         */
+        public @NonNull String getBeanName() {
+            String name = qualifierName;
+            if (name == null) {
+                name = definitionName.substring(definitionName.lastIndexOf('.') + 1);
+            }
+            return beanTypeName + "(" + name + ")";
+        }
+
+        /**
+         * @param value The value to check
+         * @return Whether the value can be stored in the index
+         */
+        public static boolean isValidValue(@Nullable String value) {
+            return value == null || (value.indexOf(SEPARATOR) == -1 && value.indexOf('\n') == -1 && value.indexOf('\r') == -1);
+        }
+
+        private static Entry parse(String line) {
+            String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+            if (fields.length != FIELD_COUNT || fields[0].isEmpty() || fields[1].isEmpty()) {
+                return null;
+            }
+            return new Entry(fields[0], fields[1], fields[2], fields[3]);
+        }
+    }
+}
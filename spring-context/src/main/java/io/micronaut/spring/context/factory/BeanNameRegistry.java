@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of values by bean name that keeps the registration order of the names.
+ *
+ * <p>Reads never lock. Names are appended to a shared array and published through an immutable view holding the
+ * current size, so a view obtained via {@link #names()} is a stable snapshot that is never copied. Writers are
+ * serialized.</p>
+ *
+ * @param <V> The value type
+ * @since 5.9.0
+ */
+@Internal
+final class BeanNameRegistry<V> {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Map<String, V> entries = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+    private final Object writeLock = new Object();
+    private volatile Names names = new Names(new String[INITIAL_CAPACITY], 0);
+
+    /**
+     * @param name The name
+     * @return The value or {@code null}
+     */
+    @Nullable
+    V get(@NonNull String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * @param name The name
+     * @return Whether a value is registered for the name
+     */
+    boolean containsKey(@NonNull String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * @return The number of registered names
+     */
+    int size() {
+        return names.size;
+    }
+
+    /**
+     * Registers a value. Replacing the value of an existing name keeps its position.
+     *
+     * @param name The name
+     * @param value The value
+     */
+    void put(@NonNull String name, @NonNull V value) {
+        synchronized (writeLock) {
+            if (entries.put(name, value) == null) {
+                Names current = names;
+                String[] array = current.array;
+                if (current.size == array.length) {
+                    array = Arrays.copyOf(array, array.length * 2);
+                }
+                // slots beyond the size of a published view are never read through it
+                array[current.size] = name;
+                names = new Names(array, current.size + 1);
+            }
+        }
+    }
+
+    /**
+     * @return An immutable snapshot of the registered names in registration order
+     */
+    @NonNull
+    List<String> names() {
+        return names;
+    }
+
+    /**
+     * @return A new array of the registered names in registration order
+     */
+    @NonNull
+    String[] toArray() {
+        Names current = names;
+        return Arrays.copyOf(current.array, current.size);
+    }
+
+    /**
+     * Immutable view of the first {@code size} elements of an append-only array.
+     */
+    private static final class Names extends AbstractList<String> implements RandomAccess {
+        private final String[] array;
+        private final int size;
+
+        Names(String[] array, int size) {
+            this.array = array;
+            this.size = size;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
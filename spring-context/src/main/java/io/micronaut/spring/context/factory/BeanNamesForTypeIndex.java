@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.util.StringUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of bean names by type used by {@link MicronautBeanFactory#getBeanNamesForType(Class, boolean, boolean)}.
+ *
+ * <p>Singletons registered directly with the bean factory are indexed under every super class and interface of
+ * their type at registration time. Resolved lookups are cached per type and combination of lookup flags.
+ * Reads never lock; registrations publish a new snapshot and discard the resolved lookups.</p>
+ *
+ * @since 5.9.0
+ */
+@Internal
+final class BeanNamesForTypeIndex {
+
+    private volatile Map<Class<?>, String[]> singletonNamesByType = Collections.emptyMap();
+    private volatile Lookups lookups = new Lookups();
+
+    /**
+     * The current resolved lookups. Lookups resolved while a registration happens are stored in a discarded
+     * instance and therefore never become visible.
+     *
+     * @return The lookups
+     */
+    @NonNull
+    Lookups lookups() {
+        return lookups;
+    }
+
+    /**
+     * @param type The type
+     * @return The names of the registered singletons assignable to the given type
+     */
+    @NonNull
+    String[] getSingletonNames(@NonNull Class<?> type) {
+        return singletonNamesByType.getOrDefault(type, StringUtils.EMPTY_STRING_ARRAY);
+    }
+
+    /**
+     * Indexes a registered singleton under its type hierarchy.
+     *
+     * @param name The bean name
+     * @param type The bean type
+     */
+    synchronized void addSingleton(@NonNull String name, @NonNull Class<?> type) {
+        Map<Class<?>, String[]> index = new HashMap<>(singletonNamesByType);
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            addName(index, current, name);
+        }
+        for (Class<?> i : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+            addName(index, i, name);
+        }
+        singletonNamesByType = index;
+        invalidate();
+    }
+
+    private static void addName(Map<Class<?>, String[]> index, Class<?> type, String name) {
+        String[] names = index.get(type);
+        if (names == null) {
+            index.put(type, new String[] {name});
+        } else if (!Arrays.asList(names).contains(name)) {
+            index.put(type, ArrayUtils.concat(names, name));
+        }
+    }
+
+    /**
+     * Discards all resolved lookups.
+     */
+    void invalidate() {
+        lookups = new Lookups();
+    }
+
+    /**
+     * Resolved lookups keyed by type, one map per combination of the {@code includeNonSingletons} and
+     * {@code allowEagerInit} flags so no key needs to be allocated per lookup.
+     */
+    static final class Lookups {
+        private final Map<Class<?>, String[]> eagerWithNonSingletons = new ConcurrentReferenceHashMap<>();
+        private final Map<Class<?>, String[]> withNonSingletons = new ConcurrentReferenceHashMap<>();
+        private final Map<Class<?>, String[]> eagerSingletons = new ConcurrentReferenceHashMap<>();
+        private final Map<Class<?>, String[]> singletons = new ConcurrentReferenceHashMap<>();
+
+        /**
+         * @param type The type
+         * @param includeNonSingletons Whether non-singletons are included
+         * @param allowEagerInit Whether eager init is allowed
+         * @return The names or {@code null} if the lookup has not been resolved yet
+         */
+        @Nullable
+        String[] get(Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
+            return map(includeNonSingletons, allowEagerInit).get(type);
+        }
+
+        /**
+         * @param type The type
+         * @param includeNonSingletons Whether non-singletons are included
+         * @param allowEagerInit Whether eager init is allowed
+         * @param names The resolved names
+         */
+        void put(Class<?> type, boolean includeNonSingletons, boolean allowEagerInit, String[] names) {
+            map(includeNonSingletons, allowEagerInit).put(type, names);
+        }
+
+        private Map<Class<?>, String[]> map(boolean includeNonSingletons, boolean allowEagerInit) {
+            if (includeNonSingletons) {
+                return allowEagerInit ? eagerWithNonSingletons : withNonSingletons;
+            }
+            return allowEagerInit ? eagerSingletons : singletons;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.context.annotation.Prototype;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+
+/**
+ * The scope of a bean definition, computed once when the definition is registered with {@link MicronautBeanFactory}
+ * so that scope queries do not read the annotation metadata.
+ *
+ * <p>A definition has exactly one scope, so a singleton definition is never reported as prototype, whether or not
+ * the singleton was created yet. Definitions without any scope annotation are prototypes.</p>
+ *
+ * @since 5.9.0
+ */
+@Internal
+final class BeanScope {
+
+    static final int SINGLETON = 1;
+    static final int PROTOTYPE = 1 << 1;
+    static final int REQUEST = 1 << 2;
+    static final int REFRESH = 1 << 3;
+    static final int CUSTOM = 1 << 4;
+
+    private static final String REQUEST_SCOPE = "io.micronaut.runtime.http.scope.RequestScope";
+    private static final String REFRESHABLE = "io.micronaut.runtime.context.scope.Refreshable";
+    private static final BeanScope SINGLETON_SCOPE = new BeanScope(SINGLETON, ConfigurableBeanFactory.SCOPE_SINGLETON);
+    private static final BeanScope PROTOTYPE_SCOPE = new BeanScope(PROTOTYPE, ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+    private static final BeanScope REQUEST_SCOPE_INSTANCE = new BeanScope(REQUEST, "request");
+    private static final BeanScope REFRESH_SCOPE_INSTANCE = new BeanScope(REFRESH, "refresh");
+
+    private final int flags;
+    private final String name;
+
+    private BeanScope(int flags, String name) {
+        this.flags = flags;
+        this.name = name;
+    }
+
+    /**
+     * Computes the scope of a definition.
+     *
+     * @param annotationMetadata The annotation metadata of the definition
+     * @return The scope
+     */
+    @NonNull
+    static BeanScope of(@NonNull AnnotationMetadata annotationMetadata) {
+        if (MicronautBeanFactory.isSingleton(annotationMetadata)) {
+            return SINGLETON_SCOPE;
+        }
+        if (annotationMetadata.hasDeclaredStereotype(Prototype.class) ||
+                annotationMetadata.getAnnotationNamesByStereotype(AnnotationUtil.SCOPE).isEmpty()) {
+            return PROTOTYPE_SCOPE;
+        }
+        final String springScope = annotationMetadata.stringValue(org.springframework.context.annotation.Scope.class).orElse(null);
+        final String scopeAnnotation = annotationMetadata.getAnnotationNameByStereotype(AnnotationUtil.SCOPE).orElse(null);
+        if (REQUEST_SCOPE_INSTANCE.name.equals(springScope) || REQUEST_SCOPE.equals(scopeAnnotation)) {
+            return REQUEST_SCOPE_INSTANCE;
+        }
+        if (REFRESH_SCOPE_INSTANCE.name.equals(springScope) || REFRESHABLE.equals(scopeAnnotation)) {
+            return REFRESH_SCOPE_INSTANCE;
+        }
+        return new BeanScope(CUSTOM, springScope != null ? springScope : (scopeAnnotation != null ? scopeAnnotation : ""));
+    }
+
+    /**
+     * @return Whether the scope is singleton
+     */
+    boolean isSingleton() {
+        return (flags & SINGLETON) != 0;
+    }
+
+    /**
+     * @return Whether the scope is prototype
+     */
+    boolean isPrototype() {
+        return (flags & PROTOTYPE) != 0;
+    }
+
+    /**
+     * @return The Spring scope name
+     */
+    @NonNull
+    String getName() {
+        return name;
+    }
+}
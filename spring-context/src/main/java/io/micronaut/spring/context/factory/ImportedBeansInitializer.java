@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.spring.beans.ImportedBy;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Named;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Initializes the eagerly created beans imported with Spring's {@code @Import} concurrently.
+ *
+ * <p>Imported beans that are not lazy are {@link Context} scoped and would otherwise be created one at a time at
+ * startup. This initializer builds a graph of the imported beans from the components required by their definitions
+ * and the configuration declaring their bean methods, and creates each bean on the blocking executor once the imported
+ * beans it depends on exist, so independent branches are created concurrently. Dependency cycles are broken
+ * arbitrarily and left to the bean context to resolve.</p>
+ *
+ * <p>The initialization is fire-and-forget: the startup thread does not wait for it, because it may hold the bean
+ * creation lock while this initializer is created and waiting could deadlock. Imported beans are nevertheless ready
+ * when the startup completes, since the bean context still creates every context scoped bean itself, waiting for or
+ * taking over any bean that is not created yet. Only the {@link #getReport() report} may complete later. A bean that
+ * fails to initialize is logged and recorded in the report, its dependents are skipped, and the bean context reports
+ * the same failure when it creates the bean.</p>
+ *
+ * @since 5.9.0
+ */
+@Context
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Requires(property = MicronautBeanFactoryConfiguration.PREFIX + ".parallel-imported-beans", value = StringUtils.TRUE)
+@Internal
+public final class ImportedBeansInitializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportedBeansInitializer.class);
+
+    private final BeanContext beanContext;
+    private final ExecutorService executor;
+    private final CompletableFuture<ImportedBeansReport> report = new CompletableFuture<>();
+
+    /**
+     * @param beanContext The bean context
+     * @param executor The executor to create the beans on
+     */
+    public ImportedBeansInitializer(BeanContext beanContext, @Named(TaskExecutors.BLOCKING) ExecutorService executor) {
+        this.beanContext = beanContext;
+        this.executor = executor;
+    }
+
+    /**
+     * @return The report of the initialization, completed once all imported beans have been initialized
+     */
+    @NonNull
+    public CompletableFuture<ImportedBeansReport> getReport() {
+        return report;
+    }
+
+    @PostConstruct
+    void initialize() {
+        final List<BeanDefinition<?>> definitions = new ArrayList<>();
+        for (BeanDefinition<?> definition : beanContext.getAllBeanDefinitions()) {
+            if (definition.hasAnnotation(ImportedBy.class) && definition.hasStereotype(Context.class)) {
+                definitions.add(definition);
+            }
+        }
+        final int[][] dependencies = acyclic(dependencies(definitions));
+        final int[] order = topologicalOrder(dependencies);
+        final long[] started = new long[definitions.size()];
+        final long[] finished = new long[definitions.size()];
+        final Throwable[] failures = new Throwable[definitions.size()];
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[definitions.size()];
+        for (int node : order) {
+            final Runnable task = () -> {
+                started[node] = System.nanoTime();
+                try {
+                    beanContext.getBean(definitions.get(node));
+                } catch (Throwable e) {
+                    failures[node] = e;
+                    if (LOG.isErrorEnabled()) {
+                        LOG.error("Failed to initialize imported bean [{}]", definitions.get(node).getBeanType().getName(), e);
+                    }
+                    // skips the dependents
+                    throw e;
+                } finally {
+                    finished[node] = System.nanoTime();
+                }
+            };
+            final int[] nodeDependencies = dependencies[node];
+            if (nodeDependencies.length == 0) {
+                futures[node] = CompletableFuture.runAsync(task, executor);
+            } else {
+                final CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[nodeDependencies.length];
+                for (int i = 0; i < nodeDependencies.length; i++) {
+                    dependencyFutures[i] = futures[nodeDependencies[i]];
+                }
+                futures[node] = CompletableFuture.allOf(dependencyFutures).thenRunAsync(task, executor);
+            }
+        }
+        CompletableFuture.allOf(futures).whenComplete((v, e) ->
+            report.complete(new ImportedBeansReport(definitions, dependencies, order, started, finished, failures))
+        );
+    }
+
+    /**
+     * Resolves the indices of the imported beans each imported bean depends on.
+     */
+    private static int[][] dependencies(List<BeanDefinition<?>> definitions) {
+        final int[][] dependencies = new int[definitions.size()][];
+        for (int i = 0; i < definitions.size(); i++) {
+            final BeanDefinition<?> definition = definitions.get(i);
+            final Collection<Class<?>> required = new ArrayList<>(definition.getRequiredComponents());
+            // bean methods depend on the configuration declaring them
+            definition.getDeclaringType().ifPresent(required::add);
+            final Set<Integer> nodeDependencies = new LinkedHashSet<>();
+            for (Class<?> type : required) {
+                for (int j = 0; j < definitions.size(); j++) {
+                    if (j != i && type.isAssignableFrom(definitions.get(j).getBeanType())) {
+                        nodeDependencies.add(j);
+                    }
+                }
+            }
+            dependencies[i] = nodeDependencies.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return dependencies;
+    }
+
+    /**
+     * Removes the edges that close a cycle, found by a depth-first search.
+     */
+    private static int[][] acyclic(int[][] dependencies) {
+        final int[][] result = new int[dependencies.length][];
+        final byte[] state = new byte[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            visitAcyclic(i, dependencies, result, state);
+        }
+        return result;
+    }
+
+    private static void visitAcyclic(int node, int[][] dependencies, int[][] result, byte[] state) {
+        if (state[node] != 0) {
+            return;
+        }
+        // 1 = on the current path, 2 = done
+        state[node] = 1;
+        final List<Integer> kept = new ArrayList<>(dependencies[node].length);
+        for (int dependency : dependencies[node]) {
+            if (state[dependency] != 1) {
+                visitAcyclic(dependency, dependencies, result, state);
+                kept.add(dependency);
+            }
+        }
+        result[node] = kept.stream().mapToInt(Integer::intValue).toArray();
+        state[node] = 2;
+    }
+
+    /**
+     * Orders an acyclic graph so that dependencies come before their dependents.
+     */
+    private static int[] topologicalOrder(int[][] dependencies) {
+        final int[] order = new int[dependencies.length];
+        final boolean[] visited = new boolean[dependencies.length];
+        int next = 0;
+        for (int i = 0; i < dependencies.length; i++) {
+            next = visitOrder(i, dependencies, visited, order, next);
+        }
+        return order;
+    }
+
+    private static int visitOrder(int node, int[][] dependencies, boolean[] visited, int[] order, int next) {
+        if (visited[node]) {
+            return next;
+        }
+        visited[node] = true;
+        for (int dependency : dependencies[node]) {
+            next = visitOrder(dependency, dependencies, visited, order, next);
+        }
+        order[next] = node;
+        return next + 1;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.BeanDefinition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The report of an initialization of imported beans by {@link ImportedBeansInitializer}.
+ *
+ * <p>The critical path is the chain of dependent beans whose creation times add up to the longest time. It bounds
+ * how fast the imported beans can be initialized regardless of the available threads.</p>
+ *
+ * @since 5.9.0
+ */
+public final class ImportedBeansReport {
+
+    private final int beanCount;
+    private final Duration totalTime;
+    private final Duration criticalPathTime;
+    private final List<Step> criticalPath;
+    private final Map<BeanDefinition<?>, Throwable> failures;
+
+    /**
+     * @param definitions The imported definitions
+     * @param dependencies The indices of the definitions each definition depends on
+     * @param order The definition indices with dependencies before their dependents
+     * @param started The start of the creation of each definition in nanoseconds, {@code 0} if it did not start
+     * @param finished The end of the creation of each definition in nanoseconds, {@code 0} if it did not start
+     * @param failures The failure of the creation of each definition, {@code null} if it did not fail
+     */
+    ImportedBeansReport(List<BeanDefinition<?>> definitions, int[][] dependencies, int[] order, long[] started, long[] finished, Throwable[] failures) {
+        final int size = definitions.size();
+        final long[] pathTimes = new long[size];
+        final int[] previous = new int[size];
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        int end = -1;
+        for (int node : order) {
+            previous[node] = -1;
+            long longest = 0;
+            for (int dependency : dependencies[node]) {
+                if (pathTimes[dependency] > longest) {
+                    longest = pathTimes[dependency];
+                    previous[node] = dependency;
+                }
+            }
+            pathTimes[node] = longest + (finished[node] - started[node]);
+            if (end == -1 || pathTimes[node] > pathTimes[end]) {
+                end = node;
+            }
+            if (started[node] != 0) {
+                first = Math.min(first, started[node]);
+                last = Math.max(last, finished[node]);
+            }
+        }
+        final List<Step> path = new ArrayList<>();
+        for (int node = end; node != -1; node = previous[node]) {
+            path.add(new Step(definitions.get(node), Duration.ofNanos(finished[node] - started[node])));
+        }
+        Collections.reverse(path);
+        final Map<BeanDefinition<?>, Throwable> failed = new LinkedHashMap<>();
+        for (int node : order) {
+            if (failures[node] != null) {
+                failed.put(definitions.get(node), failures[node]);
+            }
+        }
+        this.beanCount = size;
+        this.totalTime = first <= last ? Duration.ofNanos(last - first) : Duration.ZERO;
+        this.criticalPathTime = end == -1 ? Duration.ZERO : Duration.ofNanos(pathTimes[end]);
+        this.criticalPath = Collections.unmodifiableList(path);
+        this.failures = Collections.unmodifiableMap(failed);
+    }
+
+    /**
+     * @return The number of imported beans
+     */
+    public int getBeanCount() {
+        return beanCount;
+    }
+
+    /**
+     * @return The time from the start of the first bean creation to the end of the last
+     */
+    @NonNull
+    public Duration getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * @return The sum of the creation times of the beans on the critical path
+     */
+    @NonNull
+    public Duration getCriticalPathTime() {
+        return criticalPathTime;
+    }
+
+    /**
+     * @return The beans on the critical path, dependencies first
+     */
+    @NonNull
+    public List<Step> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * The beans that failed to initialize. The beans depending on them were not initialized by the initializer.
+     *
+     * @return The failures by definition, in initialization order
+     */
+    @NonNull
+    public Map<BeanDefinition<?>, Throwable> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder()
+                .append("Initialized ").append(beanCount).append(" imported beans in ").append(totalTime.toMillis())
+                .append("ms, critical path ").append(criticalPathTime.toMillis()).append("ms");
+        if (!failures.isEmpty()) {
+            builder.append(", ").append(failures.size()).append(" failed");
+        }
+        for (Step step : criticalPath) {
+            builder.append(System.lineSeparator()).append("  ").append(step);
+        }
+        for (Map.Entry<BeanDefinition<?>, Throwable> failure : failures.entrySet()) {
+            builder.append(System.lineSeparator()).append("  failed ").append(failure.getKey().getBeanType().getName())
+                    .append(": ").append(failure.getValue());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A bean on the critical path.
+     */
+    public static final class Step {
+        private final BeanDefinition<?> definition;
+        private final Duration time;
+
+        private Step(BeanDefinition<?> definition, Duration time) {
+            this.definition = definition;
+            this.time = time;
+        }
+
+        /**
+         * @return The definition of the bean
+         */
+        @NonNull
+        public BeanDefinition<?> getDefinition() {
+            return definition;
+        }
+
+        /**
+         * @return The time spent creating the bean, including any dependency that was not imported
+         */
+        @NonNull
+        public Duration getTime() {
+            return time;
+        }
+
+        @Override
+        public String toString() {
+            return definition.getBeanType().getName() + " " + time.toMillis() + "ms";
+        }
+    }
+}
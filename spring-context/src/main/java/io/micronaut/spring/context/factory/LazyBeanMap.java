@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A read-only map of beans by name whose keys are known up front and whose values are only created when they are
+ * accessed. Created values are kept so every access of a key returns the same bean. The map and its entries follow
+ * the {@link Map} contract, so comparing or hashing them creates the beans, while keys, sizes and lookups by key do
+ * not create other beans than the looked up ones.
+ *
+ * @param <T> The bean type
+ * @since 5.9.0
+ */
+@Internal
+final class LazyBeanMap<T> extends AbstractMap<String, T> {
+
+    private final Map<String, Supplier<T>> suppliers;
+    private final Map<String, T> beans = new ConcurrentHashMap<>();
+    private final Set<Entry<String, T>> entrySet = new EntrySet();
+
+    /**
+     * @param suppliers The suppliers of the beans by name, in iteration order
+     */
+    LazyBeanMap(@NonNull LinkedHashMap<String, Supplier<T>> suppliers) {
+        this.suppliers = suppliers;
+    }
+
+    @Override
+    public T get(Object key) {
+        T bean = beans.get(key);
+        if (bean == null) {
+            final Supplier<T> supplier = suppliers.get(key);
+            if (supplier == null) {
+                return null;
+            }
+            // not computeIfAbsent since creating a bean may access this map
+            bean = supplier.get();
+            if (bean == null) {
+                return null;
+            }
+            final T existing = beans.putIfAbsent((String) key, bean);
+            if (existing != null) {
+                bean = existing;
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return suppliers.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return suppliers.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return suppliers.isEmpty();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(suppliers.keySet());
+    }
+
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * The entries, whose values are created by {@link Entry#getValue()}.
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, T>> {
+        @Override
+        public Iterator<Entry<String, T>> iterator() {
+            final Iterator<String> names = suppliers.keySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return names.hasNext();
+                }
+
+                @Override
+                public Entry<String, T> next() {
+                    return new LazyEntry(names.next());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return suppliers.size();
+        }
+    }
+
+    /**
+     * An entry creating its bean on the first call to {@link #getValue()}.
+     */
+    private final class LazyEntry implements Entry<String, T> {
+        private final String name;
+
+        private LazyEntry(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getKey() {
+            return name;
+        }
+
+        @Override
+        public T getValue() {
+            return get(name);
+        }
+
+        @Override
+        public T setValue(T value) {
+            throw new UnsupportedOperationException("Map is read-only");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> entry = (Entry<?, ?>) o;
+            return name.equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + getValue();
+        }
+    }
+}
@@ -16,7 +16,7 @@
 package io.micronaut.spring.context.factory;
 
 import io.micronaut.context.BeanContext;
-import io.micronaut.context.BeanRegistration;
+import io.micronaut.context.Qualifier;
 import io.micronaut.context.RuntimeBeanDefinition;
 import io.micronaut.context.annotation.*;
 import io.micronaut.context.exceptions.NoSuchBeanException;
@@ -24,7 +24,9 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.naming.NameResolver;
+import io.micronaut.core.naming.Named;
 import io.micronaut.core.reflect.InstantiationUtils;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
@@ -36,7 +38,9 @@ import io.micronaut.inject.InstantiatableBeanDefinition;
 import io.micronaut.inject.ParametrizedInstantiatableBeanDefinition;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.spring.beans.MicronautContextInternal;
+import io.micronaut.spring.context.aware.BeanPostProcessorRegistry;
 import io.micronaut.spring.context.aware.SpringAwareListener;
+import io.micronaut.spring.context.event.ApplicationEventRouter;
 import jakarta.inject.Singleton;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.*;
@@ -47,10 +51,8 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.support.AbstractBeanFactory;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
-import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.beans.factory.support.RootBeanDefinition;
-import org.springframework.context.annotation.Role;
-import org.springframework.core.OrderComparator;
+import org.springframework.context.ApplicationListener;
 import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ConcurrentReferenceHashMap;
@@ -58,6 +60,13 @@ import org.springframework.util.ConcurrentReferenceHashMap;
 import java.io.Closeable;
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -72,12 +81,23 @@ import java.util.stream.Stream;
 public class MicronautBeanFactory extends DefaultListableBeanFactory implements ListableBeanFactory, AutowireCapableBeanFactory, HierarchicalBeanFactory, ConfigurableListableBeanFactory, MicronautContextInternal {
 
     private final BeanContext beanContext;
-    private final Map<String, BeanDefinition<?>> beanDefinitionMap = new LinkedHashMap<>(200);
+    private final BeanNameRegistry<BeanDefinition<?>> beanDefinitionMap = new BeanNameRegistry<>();
     // only used for by name lookups
-    private final Map<String, BeanDefinition<?>> beanDefinitionsByName = new LinkedHashMap<>(200);
+    private final Map<String, BeanDefinition<?>> beanDefinitionsByName = new ConcurrentHashMap<>(200);
+    // references from the build-time bean name index that have not been loaded yet
+    private final Map<String, BeanDefinitionReference<?>> unloadedReferences = new ConcurrentHashMap<>();
+    // explicit Spring bean names of unloaded references
+    private final Map<String, String> unloadedNames = new ConcurrentHashMap<>();
+    // scopes of the definitions in beanDefinitionMap
+    private final Map<String, BeanScope> beanScopes = new ConcurrentHashMap<>(200);
+    // by name lookups resolved so far
+    private final Map<String, ResolvedBean> resolvedBeans = new ConcurrentHashMap<>();
     private final SpringAwareListener springAwareListener;
     private final Map<String, Optional<Class<?>>> beanTypeCache = new ConcurrentReferenceHashMap<>();
-    private final Map<Class, String[]> beanNamesForTypeCache = new ConcurrentReferenceHashMap<>();
+    private final BeanNamesForTypeIndex beanNamesForTypeIndex = new BeanNamesForTypeIndex();
+    private final Map<Class<?>, ObjectProvider<?>> beanProviders = new ConcurrentReferenceHashMap<>();
+    private final Map<BeanDefinition<?>, SpringBeanDefinitionTemplate> springBeanDefinitions = new ConcurrentReferenceHashMap<>();
+    private final MissingBeanNames missingBeanNames = new MissingBeanNames();
     private final MicronautBeanFactoryConfiguration configuration;
     private final List<Class<?>> beanExcludes;
 
@@ -96,43 +116,234 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
         this.configuration = configuration;
         this.beanExcludes = configuration.getBeanExcludes();
         final Collection<BeanDefinitionReference<?>> references = beanContext.getBeanDefinitionReferences();
+        final BeanNameIndex index = configuration.isLazyBeanDefinitions() ?
+                BeanNameIndex.load(MicronautBeanFactory.class.getClassLoader()) : BeanNameIndex.EMPTY;
 
+        final List<BeanDefinitionReference<?>> eagerReferences = new ArrayList<>(references.size());
         for (BeanDefinitionReference<?> reference : references) {
-            final BeanDefinition<?> definition = reference.load(beanContext);
-            if (definition instanceof ParametrizedInstantiatableBeanDefinition || (!(definition instanceof InstantiatableBeanDefinition))) {
-                // Spring doesn't have a similar concept. Consider these internal / non-public beans.
-                continue;
+            final BeanNameIndex.Entry entry = index.isEmpty() ? null : index.find(reference.getBeanDefinitionName());
+            if (entry != null) {
+                // defer loading until the name is first requested
+                final String beanName = entry.getBeanName();
+                unloadedReferences.put(beanName, reference);
+                final String springName = entry.getSpringName();
+                if (springName != null) {
+                    unloadedNames.put(springName, beanName);
+                }
+            } else {
+                eagerReferences.add(reference);
+            }
+        }
+        if (configuration.isParallelBeanDefinitions() && eagerReferences.size() > 1) {
+            // classes loaded concurrently, conditions evaluated and registered in the original order
+            for (BeanDefinition<?> definition : loadDefinitions(eagerReferences)) {
+                registerReference(evaluateDefinition(definition));
+            }
+        } else {
+            for (BeanDefinitionReference<?> reference : eagerReferences) {
+                registerReference(reference);
             }
+        }
+    }
 
-            if (beanExcludes.contains(definition.getBeanType())) {
-                continue;
+    private void registerReference(BeanDefinitionReference<?> reference) {
+        registerReference(evaluateDefinition(reference.load(beanContext)));
+    }
+
+    /**
+     * Loads the definitions of the given references on a dedicated executor that is shut down before returning. Only
+     * the definition classes are loaded concurrently, the bean context is not otherwise accessed.
+     * @param references The references
+     * @return The definitions in the order of the references
+     */
+    private List<BeanDefinition<?>> loadDefinitions(List<BeanDefinitionReference<?>> references) {
+        final int threads = Math.min(references.size(), Runtime.getRuntime().availableProcessors());
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "spring-bean-definitions-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Callable<BeanDefinition<?>>> tasks = new ArrayList<>(references.size());
+            for (BeanDefinitionReference<?> reference : references) {
+                tasks.add(() -> reference.load(beanContext));
             }
+            final List<BeanDefinition<?>> definitions = new ArrayList<>(references.size());
+            for (Future<BeanDefinition<?>> future : executor.invokeAll(tasks)) {
+                definitions.add(future.get());
+            }
+            return definitions;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BeanCreationException("Interrupted while loading bean definitions", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new BeanCreationException("Error loading bean definitions", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            if (definition.isEnabled(beanContext)) {
-                if (definition.isIterable()) {
-                    Collection<? extends BeanDefinition<?>> beanDefinitions = beanContext.getBeanDefinitions(definition.getBeanType());
-                    for (BeanDefinition<?> beanDefinition : beanDefinitions) {
-                        String beanName = computeBeanName(beanDefinition);
-                        beanDefinitionMap.put(beanName, beanDefinition);
-                    }
-                } else {
-                    String beanName = computeBeanName(definition);
-                    beanDefinitionMap.put(beanName, definition);
+    private void registerReference(@Nullable LoadedReference reference) {
+        if (reference == null) {
+            return;
+        }
+        for (int i = 0; i < reference.beanNames.length; i++) {
+            beanScopes.put(reference.beanNames[i], reference.scopes[i]);
+            beanDefinitionMap.put(reference.beanNames[i], reference.definitions[i]);
+        }
+        if (reference.explicitName != null) {
+            beanDefinitionsByName.put(reference.explicitName, reference.definition);
+        }
+    }
+
+    /**
+     * Evaluates a loaded definition without registering it.
+     * @param definition The definition
+     * @return The loaded reference or {@code null} if it is not exposed to Spring
+     */
+    private @Nullable LoadedReference evaluateDefinition(BeanDefinition<?> definition) {
+        if (definition instanceof ParametrizedInstantiatableBeanDefinition || (!(definition instanceof InstantiatableBeanDefinition))) {
+            // Spring doesn't have a similar concept. Consider these internal / non-public beans.
+            return null;
+        }
+
+        if (beanExcludes.contains(definition.getBeanType())) {
+            return null;
+        }
+
+        if (!definition.isEnabled(beanContext)) {
+            return null;
+        }
+        final BeanDefinition<?>[] definitions;
+        if (definition.isIterable()) {
+            definitions = beanContext.getBeanDefinitions(definition.getBeanType()).toArray(new BeanDefinition<?>[0]);
+        } else {
+            definitions = new BeanDefinition<?>[] {definition};
+        }
+        final String[] beanNames = new String[definitions.length];
+        final BeanScope[] scopes = new BeanScope[definitions.length];
+        for (int i = 0; i < definitions.length; i++) {
+            beanNames[i] = computeBeanName(definitions[i]);
+            scopes[i] = BeanScope.of(definitions[i].getAnnotationMetadata());
+        }
+
+        String explicitName = null;
+        // handle component differently so that the value is a unique bean name
+        if (definition.isAnnotationPresent(Component.class)) {
+            // explicit handling of named beans
+            explicitName = definition.getValue(Component.class, String.class).orElse(null);
+        }
+
+        // handle Spring's @Bean differently so that the value is a unique bean name
+        if (definition.isAnnotationPresent(org.springframework.context.annotation.Bean.class)) {
+            // explicit handling of named beans
+            explicitName = definition.getValue(org.springframework.context.annotation.Bean.class, String.class).orElse(explicitName);
+        }
+        return new LoadedReference(definition, definitions, beanNames, scopes, explicitName);
+    }
+
+    /**
+     * Finds the definition registered for the given computed bean name, loading it from the bean name index if necessary.
+     * @param beanName The bean name
+     * @return The definition or {@code null}
+     */
+    private BeanDefinition<?> findDefinition(String beanName) {
+        BeanDefinition<?> definition = beanDefinitionMap.get(beanName);
+        if (definition == null && !unloadedReferences.isEmpty()) {
+            synchronized (unloadedReferences) {
+                loadReference(beanName);
+            }
+            definition = beanDefinitionMap.get(beanName);
+        }
+        return definition;
+    }
+
+    /**
+     * Finds the definition registered for an explicit Spring bean name, loading it from the bean name index if necessary.
+     * @param name The name
+     * @return The definition or {@code null}
+     */
+    private BeanDefinition<?> findDefinitionByName(String name) {
+        BeanDefinition<?> definition = beanDefinitionsByName.get(name);
+        if (definition == null && !unloadedNames.isEmpty()) {
+            synchronized (unloadedReferences) {
+                final String beanName = unloadedNames.remove(name);
+                if (beanName != null) {
+                    loadReference(beanName);
                 }
+            }
+            definition = beanDefinitionsByName.get(name);
+        }
+        return definition;
+    }
 
-                // handle component differently so that the value is a unique bean name
-                if (definition.isAnnotationPresent(Component.class)) {
-                    // explicit handling of named beans
-                    final Optional<String> v = definition.getValue(Component.class, String.class);
-                    v.ifPresent(s -> beanDefinitionsByName.put(s, definition));
+    /**
+     * Resolves the definition for the given name, first by computed bean name and then by explicit Spring bean name.
+     * @param name The name
+     * @return The resolved bean or {@code null}
+     */
+    private ResolvedBean resolveBean(String name) {
+        ResolvedBean resolved = resolvedBeans.get(name);
+        if (resolved == null) {
+            BeanDefinition<?> definition = findDefinition(name);
+            if (definition != null) {
+                resolved = new ResolvedBean(beanContext, definition, false);
+            } else {
+                definition = findDefinitionByName(name);
+                if (definition == null) {
+                    return null;
                 }
+                resolved = new ResolvedBean(beanContext, definition, true);
+            }
+            final ResolvedBean existing = resolvedBeans.putIfAbsent(name, resolved);
+            if (existing != null) {
+                resolved = existing;
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Whether no singleton, alias or definition is registered for the given name. A miss is remembered until the
+     * next registration.
+     * @param name The name
+     * @return True if the name is missing
+     */
+    private boolean isMissing(String name) {
+        final Set<String> missing = missingBeanNames.current();
+        if (missing.contains(name)) {
+            return true;
+        }
+        if (super.containsSingleton(name) || isAlias(name) || findDefinition(name) != null || findDefinitionByName(name) != null) {
+            return false;
+        }
+        MissingBeanNames.add(missing, name);
+        return true;
+    }
+
+    private void loadReference(String beanName) {
+        final BeanDefinitionReference<?> reference = unloadedReferences.remove(beanName);
+        if (reference != null) {
+            registerReference(reference);
+        }
+    }
 
-                // handle Spring's @Bean differently so that the value is a unique bean name
-                if (definition.isAnnotationPresent(org.springframework.context.annotation.Bean.class)) {
-                    // explicit handling of named beans
-                    final Optional<String> v = definition.getValue(org.springframework.context.annotation.Bean.class, String.class);
-                    v.ifPresent(s -> beanDefinitionsByName.put(s, definition));
+    private void loadAllReferences() {
+        if (!unloadedReferences.isEmpty()) {
+            synchronized (unloadedReferences) {
+                for (BeanDefinitionReference<?> reference : unloadedReferences.values()) {
+                    registerReference(reference);
                 }
+                unloadedReferences.clear();
+                unloadedNames.clear();
             }
         }
     }
@@ -176,6 +387,10 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
     @Override
     public @NonNull
     Object getBean(@NonNull String name) throws BeansException {
+        final Set<String> missing = missingBeanNames.current();
+        if (missing.contains(name)) {
+            throw new NoSuchBeanDefinitionException(name);
+        }
         if (super.isAlias(name)) {
             final String[] aliases = super.getAliases(name);
             for (String alias : aliases) {
@@ -191,19 +406,12 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
             }
             return singleton;
         } else {
-            Class<?> type = getType(name);
-            BeanDefinition<?> definition;
-            if (type != null) {
-                definition = beanDefinitionMap.get(name);
-            } else {
-                definition = beanDefinitionsByName.get(name);
-                if (definition != null) {
-                    type = definition.getBeanType();
-                }
+            final ResolvedBean resolved = resolveBean(name);
+            if (resolved != null) {
+                return beanContext.getBean(resolved.getDefinition());
             }
-
-            if (definition != null && type != null) {
-                return beanContext.getBean(definition);
+            if (!super.isAlias(name)) {
+                MissingBeanNames.add(missing, name);
             }
             throw new NoSuchBeanDefinitionException(name);
         }
@@ -217,13 +425,41 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
             throw new NoSuchBeanDefinitionException(requiredType);
         }
 
+        final T bean;
         try {
-            if (containsBeanDefinition(name)) {
-                @SuppressWarnings("unchecked")
-                BeanDefinition<T> beanDefinition = (BeanDefinition<T>) beanDefinitionMap.get(name);
-                if (requiredType.isAssignableFrom(requiredType)) {
-                    return beanContext.getBean(beanDefinition);
-                }
+            bean = findBean(name, requiredType);
+        } catch (NoSuchBeanException e) {
+            throw new NoSuchBeanDefinitionException(requiredType, e.getMessage());
+        } catch (Exception e) {
+            throw new BeanCreationException(name, e.getMessage(), e);
+        }
+        if (bean == null) {
+            throw new NoSuchBeanDefinitionException(requiredType, "No bean named '" + name + "' available");
+        }
+        return bean;
+    }
+
+    /**
+     * Resolves a bean by name and type like {@link #getBean(String, Class)}, but returns {@code null} instead of
+     * throwing if there is no such bean. Exceptions are only thrown if the bean exists but cannot be created.
+     *
+     * @param name The bean name
+     * @param requiredType The required type
+     * @param <T> The bean type
+     * @return The bean or {@code null}
+     * @since 5.9.0
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable
+    <T> T findBean(@NonNull String name, @NonNull Class<T> requiredType) {
+        if (beanExcludes.contains(requiredType)) {
+            return null;
+        }
+        // beans qualified by name in the bean context are not known to the local registries
+        if (!missingBeanNames.current().contains(name)) {
+            final BeanDefinition<?> definition = findDefinition(name);
+            if (definition != null && requiredType.isAssignableFrom(definition.getBeanType())) {
+                return beanContext.getBean((BeanDefinition<T>) definition);
             }
             if (isAlias(name)) {
                 final String[] aliases = getAliases(name);
@@ -239,17 +475,40 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
                     return (T) o;
                 }
             }
-            return beanContext.getBean(requiredType, Qualifiers.byName(name));
-        } catch (NoSuchBeanException e) {
-            throw new NoSuchBeanDefinitionException(requiredType, e.getMessage());
-        } catch (Exception e) {
-            throw new BeanCreationException(name, e.getMessage(), e);
         }
+        return beanContext.findBean(requiredType, Qualifiers.byName(name)).orElse(null);
+    }
+
+    /**
+     * Resolves a bean by type like {@link #getBean(Class)}, but returns {@code null} instead of throwing if there is
+     * no such bean.
+     *
+     * @param requiredType The required type
+     * @param <T> The bean type
+     * @return The bean or {@code null}
+     * @since 5.9.0
+     */
+    public @Nullable
+    <T> T findBean(@NonNull Class<T> requiredType) {
+        if (beanExcludes.contains(requiredType)) {
+            return null;
+        }
+        // singletons registered with this factory take precedence
+        final String[] beanNamesForType = beanNamesForTypeIndex.getSingletonNames(requiredType);
+        if (beanNamesForType.length > 0) {
+            return findBean(beanNamesForType[0], requiredType);
+        }
+        return beanContext.findBean(requiredType).orElse(null);
     }
 
     @Override
     public @NonNull
     Object getBean(@NonNull String name, @NonNull Object... args) throws BeansException {
+        final ResolvedBean resolved = resolveBean(name);
+        if (resolved != null) {
+            // the generated definition maps the arguments to its @Parameter arguments
+            return beanContext.createBean((Class<Object>) resolved.getBeanType(), resolved.getQualifier(), args);
+        }
         final Class<?> type = getType(name);
         if (type != null) {
             return beanContext.createBean(type, args);
@@ -264,17 +523,16 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
         if (beanExcludes.contains(requiredType)) {
             throw new NoSuchBeanDefinitionException(requiredType);
         }
-        // unfortunate hack
+        final T bean;
         try {
-            final String[] beanNamesForType = super.getBeanNamesForType(requiredType, false, false);
-            if (ArrayUtils.isNotEmpty(beanNamesForType)) {
-                return getBean(beanNamesForType[0], requiredType);
-            } else {
-                return beanContext.getBean(requiredType);
-            }
+            bean = findBean(requiredType);
         } catch (NoSuchBeanException e) {
             throw new NoSuchBeanDefinitionException(requiredType, e.getMessage());
         }
+        if (bean == null) {
+            throw new NoSuchBeanDefinitionException(requiredType);
+        }
+        return bean;
     }
 
     @Override
@@ -290,44 +548,9 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
     @Override
     public @NonNull
     <T> ObjectProvider<T> getBeanProvider(@NonNull Class<T> requiredType) {
-        return new ObjectProvider<T>() {
-            @Override
-            public T getObject(Object... args) throws BeansException {
-                return beanContext.createBean(requiredType, args);
-            }
-
-            @Override
-            public T getIfAvailable() throws BeansException {
-                if (beanContext.containsBean(requiredType)) {
-                    return beanContext.getBean(requiredType);
-                }
-                return null;
-            }
-
-            @Override
-            public T getIfUnique() throws BeansException {
-                final Collection<T> beansOfType = beanContext.getBeansOfType(requiredType);
-                if (beansOfType.size() == 1) {
-                    return beansOfType.stream().findFirst().orElse(null);
-                }
-                return null;
-            }
-
-            @Override
-            public T getObject() throws BeansException {
-                return beanContext.getBean(requiredType);
-            }
-
-            @Override
-            public Stream<T> stream() {
-                return Arrays.stream(getBeanNamesForType(requiredType)).map(name -> (T) getBean(name));
-            }
-
-            @Override
-            public Stream<T> orderedStream() {
-                return stream().sorted(OrderComparator.INSTANCE);
-            }
-        };
+        return (ObjectProvider<T>) beanProviders.computeIfAbsent(requiredType, type ->
+            new BeanFactoryObjectProvider<>(beanContext, type, beanExcludes.contains(type))
+        );
     }
 
     @Override
@@ -339,23 +562,29 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
 
     @Override
     public boolean containsBean(@NonNull String name) {
-        return super.containsSingleton(name) ||
-                beanDefinitionMap.containsKey(name) ||
-                beanDefinitionsByName.containsKey(name) ||
-                isAlias(name);
+        return !isMissing(name);
     }
 
     @Override
     public boolean isSingleton(@NonNull String name) throws NoSuchBeanDefinitionException {
         if (super.containsSingleton(name)) {
             return true;
-        } else {
-            final BeanDefinition<?> definition = beanDefinitionMap.get(name);
-            if (definition != null) {
-                return isSingleton(definition);
-            }
-            return false;
         }
+        final BeanScope scope = findScope(name);
+        return scope != null && scope.isSingleton();
+    }
+
+    /**
+     * Finds the scope computed when the definition for the given computed bean name was registered.
+     * @param beanName The bean name
+     * @return The scope or {@code null}
+     */
+    private BeanScope findScope(String beanName) {
+        final BeanScope scope = beanScopes.get(beanName);
+        if (scope == null && !unloadedReferences.isEmpty() && findDefinition(beanName) != null) {
+            return beanScopes.get(beanName);
+        }
+        return scope;
     }
 
     /**
@@ -374,17 +603,8 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
             return false;
         }
 
-        final BeanDefinition<?> definition = beanDefinitionMap.get(name);
-        if (definition != null) {
-            final AnnotationMetadata annotationMetadata = definition.getAnnotationMetadata();
-            if (annotationMetadata.hasDeclaredStereotype(Prototype.class)) {
-                return true;
-            } else {
-                final boolean hasScope = annotationMetadata.getAnnotationNamesByStereotype(AnnotationUtil.SCOPE).isEmpty();
-                return !hasScope;
-            }
-        }
-        return false;
+        final BeanScope scope = findScope(name);
+        return scope != null && scope.isPrototype();
     }
 
     @Override
@@ -410,7 +630,10 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
         Optional<Class<?>> opt = beanTypeCache.get(beanName);
         //noinspection OptionalAssignedToNull
         if (opt == null) {
-            final BeanDefinition<?> definition = beanDefinitionMap.get(beanName);
+            if (getParentBeanFactory() == null && !BeanFactoryUtils.isFactoryDereference(beanName) && isMissing(beanName)) {
+                return null;
+            }
+            final BeanDefinition<?> definition = findDefinition(beanName);
             if (definition != null) {
                 opt = Optional.of(definition.getBeanType());
             } else {
@@ -432,13 +655,11 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
                     return parentBeanFactory.getType(originalBeanName(beanName));
                 }
 
-                final org.springframework.beans.factory.config.BeanDefinition parentDef;
-                try {
-                    parentDef = super.getBeanDefinition(beanName);
-                } catch (NoSuchBeanDefinitionException e) {
+                if (!super.containsBeanDefinition(beanName)) {
                     beanTypeCache.put(beanName, Optional.empty());
                     return null;
                 }
+                final org.springframework.beans.factory.config.BeanDefinition parentDef = super.getBeanDefinition(beanName);
                 if (parentDef instanceof RootBeanDefinition) {
 
                     RootBeanDefinition mbd = (RootBeanDefinition) parentDef;
@@ -479,18 +700,20 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
 
     @Override
     public boolean containsBeanDefinition(@NonNull String beanName) {
-        return beanDefinitionMap.containsKey(beanName);
+        return findDefinition(beanName) != null;
     }
 
     @Override
     public int getBeanDefinitionCount() {
+        loadAllReferences();
         return beanDefinitionMap.size();
     }
 
     @Override
     public @NonNull
     String[] getBeanDefinitionNames() {
-        return beanDefinitionMap.keySet().toArray(new String[0]);
+        loadAllReferences();
+        return beanDefinitionMap.toArray();
     }
 
     @Override
@@ -516,16 +739,16 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
         if (type == null || Object.class == type || List.class == type || beanExcludes.contains(type)) {
             return StringUtils.EMPTY_STRING_ARRAY;
         }
-        String[] names = beanNamesForTypeCache.get(type);
+        final BeanNamesForTypeIndex.Lookups lookups = beanNamesForTypeIndex.lookups();
+        String[] names = lookups.get(type, includeNonSingletons, allowEagerInit);
         if (names == null) {
-            final String[] superResult = MicronautBeanFactory.super.getBeanNamesForType(type, includeNonSingletons, allowEagerInit);
-            if (ArrayUtils.isNotEmpty(superResult)) {
-                names = superResult;
-            } else {
+            // singletons registered with this factory take precedence
+            names = beanNamesForTypeIndex.getSingletonNames(type);
+            if (names.length == 0) {
                 final Collection<? extends BeanDefinition<?>> beanDefinitions = beanContext.getBeanDefinitions(type);
-                names = beansToNames(beanDefinitions);
+                names = beansToNames(beanDefinitions, includeNonSingletons);
             }
-            beanNamesForTypeCache.put(type, names);
+            lookups.put(type, includeNonSingletons, allowEagerInit, names);
         }
         return names;
     }
@@ -533,21 +756,92 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
     @Override
     public @NonNull
     <T> Map<String, T> getBeansOfType(Class<T> type, boolean includeNonSingletons, boolean allowEagerInit) throws BeansException {
+        final Map<String, T> lazyBeans = getBeansOfTypeLazily(type, includeNonSingletons, allowEagerInit);
+        final Map<String, T> beans = new HashMap<>(lazyBeans.size());
+        final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>(lazyBeans.size()));
+        for (Map.Entry<String, T> entry : lazyBeans.entrySet()) {
+            final T bean = entry.getValue();
+            if (bean != null && seen.add(bean)) {
+                beans.put(entry.getKey(), bean);
+            }
+        }
+        return beans;
+    }
+
+    /**
+     * Returns the beans of the given type like {@link #getBeansOfType(Class)}, but only creates a bean when its value
+     * is accessed.
+     *
+     * @param type The bean type
+     * @param <T> The bean type
+     * @return A read-only map of the beans by name
+     * @since 5.9.0
+     */
+    public @NonNull
+    <T> Map<String, T> getBeansOfTypeLazily(Class<T> type) {
+        return getBeansOfTypeLazily(type, true, true);
+    }
+
+    /**
+     * Returns the beans of the given type like {@link #getBeansOfType(Class, boolean, boolean)}, but only creates a
+     * bean when its value is accessed. The keys are bean names: the names of the singletons of the type registered with
+     * this factory, followed by the computed names of the other definitions of the type, as returned by
+     * {@link #getBeanNamesForType(Class, boolean, boolean)}. The types of the definitions are known without creating
+     * any bean, so no bean is initialized eagerly regardless of {@code allowEagerInit}.
+     *
+     * @param type The bean type
+     * @param includeNonSingletons Whether to include prototype and other scoped beans as well
+     * @param allowEagerInit Whether lazy singletons and factory beans may be initialized to determine their type
+     * @param <T> The bean type
+     * @return A read-only map of the beans by name
+     * @since 5.9.0
+     */
+    public @NonNull
+    <T> Map<String, T> getBeansOfTypeLazily(Class<T> type, boolean includeNonSingletons, boolean allowEagerInit) {
         if (type == null || beanExcludes.contains(type)) {
             return Collections.emptyMap();
         }
-        final Map<String, T> springSingletons = super.getBeansOfType(type, false, false);
-        final Collection<T> beansOfType = beanContext.getBeansOfType(type);
-        Map<String, T> beans = new HashMap<>(beansOfType.size());
-        beans.putAll(springSingletons);
-        for (T bean : beansOfType) {
-            if (!springSingletons.containsValue(bean)) {
-
-                final Optional<BeanRegistration<T>> reg = beanContext.findBeanRegistration(bean);
-                reg.ifPresent(registration -> beans.put(registration.getBeanDefinition().getClass().getName(), bean));
+        final String[] singletonNames = beanNamesForTypeIndex.getSingletonNames(type);
+        final LinkedHashMap<String, Supplier<T>> suppliers = new LinkedHashMap<>();
+        for (String name : singletonNames) {
+            suppliers.put(name, () -> getBean(name, type));
+        }
+        final Set<String> registeredNames = new HashSet<>(Arrays.asList(singletonNames));
+        final Set<String> knownNames = new HashSet<>(registeredNames);
+        for (BeanDefinition<T> definition : beanContext.getBeanDefinitions(type)) {
+            if (definition instanceof ParametrizedInstantiatableBeanDefinition ||
+                    (!includeNonSingletons && !isSingletonDefinition(definition)) ||
+                    isRegisteredSingleton(definition, registeredNames)) {
+                continue;
+            }
+            final String name = computeBeanName(definition);
+            if (knownNames.add(name)) {
+                suppliers.put(name, () -> beanContext.getBean(definition));
             }
         }
-        return beans;
+        return new LazyBeanMap<>(suppliers);
+    }
+
+    /**
+     * Streams the beans of the given type, creating each bean when the stream reaches it.
+     *
+     * @param type The bean type
+     * @param <T> The bean type
+     * @return The beans
+     * @since 5.9.0
+     */
+    public @NonNull
+    <T> Stream<T> streamBeansOfType(Class<T> type) {
+        return getBeansOfTypeLazily(type).values().stream();
+    }
+
+    private static boolean isRegisteredSingleton(BeanDefinition<?> definition, Set<String> names) {
+        if (names.isEmpty()) {
+            return false;
+        }
+        // singletons registered with this factory are qualified by their name
+        final Qualifier<?> qualifier = definition.getDeclaredQualifier();
+        return qualifier instanceof Named && names.contains(((Named) qualifier).getName());
     }
 
     @Override
@@ -563,7 +857,7 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
         if (super.containsSingleton(beanName)) {
             return super.findAnnotationOnBean(beanName, annotationType);
         } else {
-            final BeanDefinition<?> ref = beanDefinitionMap.get(beanName);
+            final BeanDefinition<?> ref = findDefinition(beanName);
             if (ref != null) {
                 return ref.getAnnotationMetadata().synthesize(annotationType);
             }
@@ -572,11 +866,23 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
     }
 
     private String[] beansToNames(Collection<? extends BeanDefinition<?>> beanDefinitions) {
+        return beansToNames(beanDefinitions, true);
+    }
+
+    private String[] beansToNames(Collection<? extends BeanDefinition<?>> beanDefinitions, boolean includeNonSingletons) {
         return beanDefinitions.stream()
                 .filter(bd -> !(bd instanceof ParametrizedInstantiatableBeanDefinition))
+                .filter(bd -> includeNonSingletons || isSingletonDefinition(bd))
                 .map(this::computeBeanName).toArray(String[]::new);
     }
 
+    private static boolean isSingletonDefinition(BeanDefinition<?> definition) {
+        if (definition.hasDeclaredStereotype(org.springframework.context.annotation.Bean.class)) {
+            return isSingleton(definition.getAnnotationMetadata());
+        }
+        return isSingleton(definition.getAnnotationMetadata()) || definition.isSingleton();
+    }
+
     @Override
     public @NonNull
     <T> T createBean(@NonNull Class<T> beanClass) throws BeansException {
@@ -653,7 +959,7 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
 
     @Override
     public boolean containsLocalBean(String name) {
-        return super.containsLocalBean(name) || beanDefinitionMap.containsKey(name) || beanDefinitionsByName.containsKey(name);
+        return super.containsLocalBean(name) || findDefinition(name) != null || findDefinitionByName(name) != null;
     }
 
     /**
@@ -670,13 +976,23 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
 
     @Override
     public org.springframework.beans.factory.config.BeanDefinition getBeanDefinition(String beanName) throws NoSuchBeanDefinitionException {
-        final BeanDefinition<?> definition = beanDefinitionMap.get(beanName);
-        if (definition != null && definition.isEnabled(beanContext)) {
-            final GenericBeanDefinition genericBeanDefinition = new GenericBeanDefinition();
-            genericBeanDefinition.setBeanClass(definition.getBeanType());
-            int role = definition.intValue(Role.class).orElse(org.springframework.beans.factory.config.BeanDefinition.ROLE_APPLICATION);
-            genericBeanDefinition.setRole(role);
-            return genericBeanDefinition;
+        final BeanDefinition<?> definition = findDefinition(beanName);
+        if (definition != null) {
+            SpringBeanDefinitionTemplate template = springBeanDefinitions.get(definition);
+            if (template == null && definition.isEnabled(beanContext)) {
+                BeanScope scope = beanScopes.get(beanName);
+                if (scope == null) {
+                    scope = BeanScope.of(definition.getAnnotationMetadata());
+                }
+                template = new SpringBeanDefinitionTemplate(definition, scope.getName(), isPrimary(definition));
+                final SpringBeanDefinitionTemplate existing = springBeanDefinitions.putIfAbsent(definition, template);
+                if (existing != null) {
+                    template = existing;
+                }
+            }
+            if (template != null) {
+                return template.newBeanDefinition();
+            }
         }
         throw new NoSuchBeanDefinitionException(beanName);
     }
@@ -689,54 +1005,20 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
             throw new NoSuchBeanDefinitionException(name);
         }
 
-        if (super.containsSingleton(name)) {
+        final boolean missing = missingBeanNames.current().contains(name);
+        if (!missing && super.containsSingleton(name)) {
             final Object o = super.getSingleton(name);
             if (requiredType == null || requiredType.isInstance(o)) {
                 return (T) o;
             }
         }
 
-        BeanDefinition<?> definition = beanDefinitionMap.get(name);
-        if (definition == null) {
-            // by name, with no type lookups
-            final BeanDefinition<?> def = beanDefinitionsByName.get(name);
-            if (def != null) {
-                if (requiredType != null) {
-                    if (requiredType.isAssignableFrom(def.getBeanType())) {
-                        definition = def;
-                    }
-                } else {
-                    definition = def;
-                }
-            }
-        }
-
-        if (definition != null && definition.isEnabled(beanContext)) {
+        final ResolvedBean resolved = missing ? null : resolveBean(name);
+        if (resolved != null && resolved.isEnabled() && resolved.matches(requiredType)) {
             if (requiredType == null) {
-                requiredType = (Class<T>) definition.getBeanType();
+                requiredType = (Class<T>) resolved.getBeanType();
             }
-
-            BeanDefinition<?> finalDefinition = definition;
-            io.micronaut.context.Qualifier<T> q = (io.micronaut.context.Qualifier<T>) definition.getValue(AnnotationUtil.NAMED, String.class)
-                    .map((String n) -> {
-                        if (Primary.class.getName().equals(n)) {
-                            return n;
-                        }
-                        return Qualifiers.byName(n);
-                    })
-                    .orElseGet(() -> {
-                                if (finalDefinition.hasDeclaredStereotype(Primary.class)) {
-                                    return null;
-                                }
-                                final String annotationType = finalDefinition.getAnnotationNameByStereotype(AnnotationUtil.QUALIFIER).orElse(null);
-                                if (annotationType != null) {
-                                    return Qualifiers.byAnnotation(finalDefinition, annotationType);
-                                } else if (finalDefinition instanceof NameResolver) {
-                                    return ((NameResolver) finalDefinition).resolveName().map(Qualifiers::byName).orElse(null);
-                                }
-                        return null;
-                            }
-                    );
+            final io.micronaut.context.Qualifier<T> q = (io.micronaut.context.Qualifier<T>) resolved.getQualifier();
             if (q != null) {
                 return beanContext.getBean(requiredType, q);
             } else {
@@ -761,14 +1043,12 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
         }
 
         if (requiredType != null) {
-            try {
-                return beanContext.getBean(requiredType, Qualifiers.byName(name));
-            } catch (NoSuchBeanException e) {
-                throw new NoSuchBeanDefinitionException(name);
+            final Optional<T> bean = beanContext.findBean(requiredType, Qualifiers.byName(name));
+            if (bean.isPresent()) {
+                return bean.get();
             }
-        } else {
-            throw new NoSuchBeanDefinitionException(name);
         }
+        throw new NoSuchBeanDefinitionException(name);
     }
 
     @Override
@@ -791,7 +1071,8 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
 
     @Override
     public Iterator<String> getBeanNamesIterator() {
-        return Arrays.asList(getBeanDefinitionNames()).iterator();
+        loadAllReferences();
+        return beanDefinitionMap.names().iterator();
     }
 
     @Override
@@ -801,7 +1082,7 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
 
     @Override
     public void destroyBean(String beanName, Object beanInstance) {
-        final BeanDefinition<?> definition = beanDefinitionMap.get(beanName);
+        final BeanDefinition<?> definition = findDefinition(beanName);
         if (definition instanceof DisposableBeanDefinition) {
             ((DisposableBeanDefinition) definition).dispose(beanContext, beanInstance);
         }
@@ -816,6 +1097,28 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
                 Qualifiers.byName(beanName)
         );
         super.registerSingleton(beanName, singletonObject);
+        missingBeanNames.invalidate();
+        beanTypeCache.remove(beanName);
+        resolvedBeans.remove(beanName);
+        beanNamesForTypeIndex.addSingleton(beanName, type);
+        if (singletonObject instanceof FactoryBean) {
+            final Class<?> objectType = ((FactoryBean<?>) singletonObject).getObjectType();
+            if (objectType != null) {
+                beanNamesForTypeIndex.addSingleton(beanName, objectType);
+            }
+        }
+        if (singletonObject instanceof BeanPostProcessor) {
+            beanContext.getBean(BeanPostProcessorRegistry.class).add((BeanPostProcessor) singletonObject);
+        }
+        if (singletonObject instanceof ApplicationListener) {
+            resetEventRoutes();
+        }
+    }
+
+    @Override
+    public void registerAlias(String name, String alias) {
+        super.registerAlias(name, alias);
+        missingBeanNames.invalidate();
     }
 
     @Override
@@ -854,25 +1157,54 @@ public class MicronautBeanFactory extends DefaultListableBeanFactory implements
             }
             builder.qualifier(Qualifiers.byName(beanName));
             beanContext.registerBeanDefinition(builder.build());
+            missingBeanNames.invalidate();
+            beanTypeCache.remove(beanName);
+            resolvedBeans.remove(beanName);
+            beanNamesForTypeIndex.invalidate();
             if (BeanPostProcessor.class.isAssignableFrom(beanClass)) {
-                beanContext.getBean(SpringAwareListener.class)
-                    .resetPostProcessors();
+                beanContext.getBean(BeanPostProcessorRegistry.class)
+                    .add((Class) beanClass, beanName);
+            }
+            if (ApplicationListener.class.isAssignableFrom(beanClass)) {
+                resetEventRoutes();
             }
         }
     }
 
+    private void resetEventRoutes() {
+        beanContext.findBean(ApplicationEventRouter.class).ifPresent(ApplicationEventRouter::reset);
+    }
+
     @Override
     protected boolean isPrimary(String beanName, Object beanInstance) {
-        BeanDefinition<?> definition = beanDefinitionMap.get(beanName);
+        BeanDefinition<?> definition = findDefinition(beanName);
         if (definition == null) {
-            definition = beanDefinitionsByName.get(beanName);
+            definition = findDefinitionByName(beanName);
         }
 
-        if (definition != null) {
-            return definition.hasDeclaredStereotype(Primary.class) || definition.getValue(AnnotationUtil.NAMED, String.class).map((String n) -> Primary.class.getName().equals(n)).orElse(false);
-        } else {
-            return false;
-        }
+        return definition != null && isPrimary(definition);
+    }
+
+    private static boolean isPrimary(BeanDefinition<?> definition) {
+        return definition.hasDeclaredStereotype(Primary.class) || definition.getValue(AnnotationUtil.NAMED, String.class).map((String n) -> Primary.class.getName().equals(n)).orElse(false);
     }
 
+    /**
+     * A loaded and enabled reference along with the names to register it under.
+     */
+    private static final class LoadedReference {
+        private final BeanDefinition<?> definition;
+        private final BeanDefinition<?>[] definitions;
+        private final String[] beanNames;
+        private final BeanScope[] scopes;
+        private final String explicitName;
+
+        private LoadedReference(BeanDefinition<?> definition, BeanDefinition<?>[] definitions, String[] beanNames, BeanScope[] scopes, String explicitName) {
+            this.definition = definition;
+            this.definitions = definitions;
+            this.beanNames = beanNames;
+            this.scopes = scopes;
+            this.explicitName = explicitName;
+        }
+    }
 }
@@ -34,6 +34,9 @@ public class MicronautBeanFactoryConfiguration implements MicronautContextIntern
     public static final String PREFIX = "micronaut.spring.context";
 
     private List<Class<?>> beanExcludes = Collections.emptyList();
+    private boolean lazyBeanDefinitions;
+    private boolean parallelBeanDefinitions;
+    private boolean parallelImportedBeans;
 
     /**
      * The bean types to exclude from being exposed by Spring's {@link org.springframework.beans.factory.BeanFactory} interface.
@@ -51,4 +54,67 @@ public class MicronautBeanFactoryConfiguration implements MicronautContextIntern
         ArgumentUtils.requireNonNull("beanExcludes", beanExcludes);
         this.beanExcludes = beanExcludes;
     }
+
+    /**
+     * Whether bean definitions listed in the build-time {@link BeanNameIndex} should only be loaded the first time their
+     * bean name is requested. Defaults to {@code false}.
+     * @return True if bean definitions are loaded lazily
+     * @since 5.9.0
+     */
+    public boolean isLazyBeanDefinitions() {
+        return lazyBeanDefinitions;
+    }
+
+    /**
+     * Whether bean definitions listed in the build-time {@link BeanNameIndex} should only be loaded the first time their
+     * bean name is requested.
+     * @param lazyBeanDefinitions True if bean definitions are loaded lazily
+     * @since 5.9.0
+     */
+    public void setLazyBeanDefinitions(boolean lazyBeanDefinitions) {
+        this.lazyBeanDefinitions = lazyBeanDefinitions;
+    }
+
+    /**
+     * Whether the bean definition classes should be loaded concurrently when the bean factory is created. The classes
+     * are loaded on a dedicated thread pool, bounded by the number of processors, that is shut down once they are
+     * loaded. Bean conditions are still evaluated and definitions registered on the creating thread, in their original
+     * order. The creating thread waits for the pool while it creates the bean factory, so enabling this can deadlock
+     * startup if loading a definition class blocks on the bean context, for example from a static initializer.
+     * Defaults to {@code false}.
+     * @return True if bean definitions are loaded in parallel
+     * @since 5.9.0
+     */
+    public boolean isParallelBeanDefinitions() {
+        return parallelBeanDefinitions;
+    }
+
+    /**
+     * Whether the bean definition classes should be loaded concurrently when the bean factory is created.
+     * @param parallelBeanDefinitions True if bean definitions are loaded in parallel
+     * @since 5.9.0
+     */
+    public void setParallelBeanDefinitions(boolean parallelBeanDefinitions) {
+        this.parallelBeanDefinitions = parallelBeanDefinitions;
+    }
+
+    /**
+     * Whether eagerly created beans imported with Spring's {@code @Import} should be initialized concurrently at
+     * startup, following the dependencies between them. See {@link ImportedBeansInitializer}. Defaults to {@code false}.
+     * @return True if imported beans are initialized in parallel
+     * @since 5.9.0
+     */
+    public boolean isParallelImportedBeans() {
+        return parallelImportedBeans;
+    }
+
+    /**
+     * Whether eagerly created beans imported with Spring's {@code @Import} should be initialized concurrently at
+     * startup.
+     * @param parallelImportedBeans True if imported beans are initialized in parallel
+     * @since 5.9.0
+     */
+    public void setParallelImportedBeans(boolean parallelImportedBeans) {
+        this.parallelImportedBeans = parallelImportedBeans;
+    }
 }
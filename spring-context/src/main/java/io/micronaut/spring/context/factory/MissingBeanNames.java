@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names that are known not to resolve to any bean of {@link MicronautBeanFactory}, so that repeated probes for them,
+ * which are common in conditional configuration, are answered without walking the registries again.
+ *
+ * <p>The number of remembered names is bounded. Any registration discards all of them by publishing a new set;
+ * a miss recorded concurrently with a registration goes to the discarded set and is never visible.</p>
+ *
+ * @since 5.9.0
+ */
+@Internal
+final class MissingBeanNames {
+
+    private static final int MAX_SIZE = 2048;
+
+    private volatile Set<String> names = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The current set of missing names. Callers record a miss in the set obtained before they resolved the name.
+     *
+     * @return The names
+     */
+    @NonNull
+    Set<String> current() {
+        return names;
+    }
+
+    /**
+     * Records a miss.
+     *
+     * @param current The set obtained before resolving the name
+     * @param name The name
+     */
+    static void add(@NonNull Set<String> current, @NonNull String name) {
+        if (current.size() < MAX_SIZE) {
+            current.add(name);
+        }
+    }
+
+    /**
+     * Discards all misses.
+     */
+    void invalidate() {
+        names = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.Qualifier;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.NameResolver;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+/**
+ * The result of resolving a bean name against the definitions known to {@link MicronautBeanFactory}. Computed on the
+ * first lookup of a name so that repeated lookups skip the annotation metadata.
+ *
+ * @since 5.9.0
+ */
+@Internal
+final class ResolvedBean {
+
+    private final BeanDefinition<?> definition;
+    private final Class<?> beanType;
+    private final Qualifier<Object> qualifier;
+    private final boolean enabled;
+    private final boolean explicitName;
+
+    /**
+     * @param beanContext The bean context
+     * @param definition The definition
+     * @param explicitName Whether the definition was found by its explicit Spring bean name
+     */
+    ResolvedBean(@NonNull BeanContext beanContext, @NonNull BeanDefinition<?> definition, boolean explicitName) {
+        this.definition = definition;
+        this.beanType = definition.getBeanType();
+        this.qualifier = resolveQualifier(definition);
+        this.enabled = definition.isEnabled(beanContext);
+        this.explicitName = explicitName;
+    }
+
+    /**
+     * @return The definition
+     */
+    @NonNull
+    BeanDefinition<?> getDefinition() {
+        return definition;
+    }
+
+    /**
+     * @return The bean type
+     */
+    @NonNull
+    Class<?> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * @return The qualifier to look the bean up with or {@code null} if the bean should be looked up by type
+     */
+    @Nullable
+    Qualifier<Object> getQualifier() {
+        return qualifier;
+    }
+
+    /**
+     * @return Whether the definition is enabled
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether the bean can be returned for the given required type. Definitions found by their explicit Spring bean
+     * name must match the required type, definitions found by their computed name always do.
+     *
+     * @param requiredType The required type, possibly {@code null}
+     * @return True if it matches
+     */
+    boolean matches(@Nullable Class<?> requiredType) {
+        return !explicitName || requiredType == null || requiredType.isAssignableFrom(beanType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Qualifier<Object> resolveQualifier(BeanDefinition<?> definition) {
+        final String name = definition.stringValue(AnnotationUtil.NAMED).orElse(null);
+        if (name != null) {
+            // primary beans are resolved by type
+            return Primary.class.getName().equals(name) ? null : Qualifiers.byName(name);
+        }
+        if (definition.hasDeclaredStereotype(Primary.class)) {
+            return null;
+        }
+        final String annotationType = definition.getAnnotationNameByStereotype(AnnotationUtil.QUALIFIER).orElse(null);
+        if (annotationType != null) {
+            return Qualifiers.byAnnotation(definition, annotationType);
+        } else if (definition instanceof NameResolver) {
+            return ((NameResolver) definition).resolveName().map(n -> (Qualifier<Object>) Qualifiers.byName(n)).orElse(null);
+        }
+        return null;
+    }
+}
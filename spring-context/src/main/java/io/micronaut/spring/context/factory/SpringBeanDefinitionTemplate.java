@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.context.factory;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Description;
+import org.springframework.context.annotation.Role;
+
+/**
+ * The Spring bean definition of a Micronaut {@link BeanDefinition}, computed once from the Micronaut metadata. Each
+ * call to {@link MicronautBeanFactory#getBeanDefinition(String)} receives its own copy, so callers such as bean factory
+ * post-processors can change it, including its attributes, without affecting other callers.
+ *
+ * @since 5.9.0
+ */
+@Internal
+final class SpringBeanDefinitionTemplate {
+
+    private final GenericBeanDefinition template = new GenericBeanDefinition();
+
+    /**
+     * @param definition The Micronaut definition
+     * @param scope The Spring scope name
+     * @param primary Whether the definition is primary
+     */
+    SpringBeanDefinitionTemplate(@NonNull BeanDefinition<?> definition, @NonNull String scope, boolean primary) {
+        template.setBeanClass(definition.getBeanType());
+        template.setScope(scope);
+        template.setPrimary(primary);
+        // Micronaut only creates beans eagerly if they are context scoped
+        template.setLazyInit(!definition.hasDeclaredStereotype(Context.class));
+        template.setRole(definition.intValue(Role.class).orElse(org.springframework.beans.factory.config.BeanDefinition.ROLE_APPLICATION));
+        template.setDescription(definition.stringValue(Description.class).orElse(null));
+        final String[] dependsOn = definition.stringValues(DependsOn.class);
+        if (dependsOn.length > 0) {
+            template.setDependsOn(dependsOn);
+        }
+    }
+
+    /**
+     * @return A new mutable copy of the bean definition
+     */
+    @NonNull
+    AbstractBeanDefinition newBeanDefinition() {
+        return template.cloneBeanDefinition();
+    }
+}
@@ -20,9 +20,13 @@ import io.micronaut.spring.context.MicronautApplicationContext
 import org.springframework.beans.factory.BeanFactoryUtils
 import org.springframework.context.ApplicationContext
 import org.springframework.context.support.GenericApplicationContext
+import org.springframework.core.metrics.ApplicationStartup
+import org.springframework.core.metrics.StartupStep
 import org.springframework.stereotype.Service
 import spock.lang.Specification
 
+import java.util.concurrent.CopyOnWriteArrayList
+
 class ApplicationContextSpec extends Specification {
 
     void "test register singleton"() {
@@ -97,5 +101,40 @@ class ApplicationContextSpec extends Specification {
 
     }
 
+    void "test the configured application startup times every startup phase"() {
+        given:
+        RecordingApplicationStartup startup = new RecordingApplicationStartup()
+        MicronautApplicationContext context = new MicronautApplicationContext()
+        context.setApplicationStartup(startup)
+
+        when:
+        context.start()
+
+        then:
+        startup.steps == [
+                "micronaut.spring.context.start",
+                "micronaut.spring.context.smart-initializing-singletons",
+                "micronaut.spring.context.refreshed-listeners",
+                "micronaut.spring.context.bean-factory",
+                "micronaut.spring.context.environment",
+                "micronaut.spring.context.event-publisher",
+                "micronaut.spring.context.message-source"
+        ]
+        context.beanFactory.beanContext.getBean(MicronautApplicationContext).applicationStartup.is(startup)
+
+        cleanup:
+        context.close()
+    }
+
     static class MySingleton {}
+
+    static class RecordingApplicationStartup implements ApplicationStartup {
+        final List<String> steps = new CopyOnWriteArrayList<>()
+
+        @Override
+        StartupStep start(String name) {
+            steps << name
+            return ApplicationStartup.DEFAULT.start(name)
+        }
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.annotation.context
+
+import groovy.transform.CompileStatic
+import io.micronaut.context.annotation.Requires
+import io.micronaut.spring.context.MicronautApplicationContext
+import io.micronaut.spring.context.event.ApplicationEventRouter
+import jakarta.inject.Singleton
+import org.springframework.context.ApplicationEvent
+import org.springframework.context.ApplicationListener
+import org.springframework.context.event.ApplicationContextEvent
+import org.springframework.context.event.ContextRefreshedEvent
+import spock.lang.Specification
+
+class ApplicationEventRouterSpec extends Specification {
+
+    void "test application listeners receive events of their type only"() {
+        given:
+        MicronautApplicationContext context = new MicronautApplicationContext()
+        context.start()
+        MyEventListener listener = context.getBean(MyEventListener)
+        ApplicationEventRouter router = context.getBean(ApplicationEventRouter)
+
+        when:
+        context.publishEvent(new MyEventListener.MyEvent(this))
+        context.publishEvent(new ApplicationEvent(this) {})
+
+        then:
+        listener.events.size() == 1
+        router.getListeners(MyEventListener.MyEvent).toList() == [listener]
+        router.getListeners(MyEventListener.MyEvent).is(router.getListeners(MyEventListener.MyEvent))
+        router.getListeners(ContextRefreshedEvent).length == 0
+
+        cleanup:
+        context.close()
+    }
+
+    void "test listeners registered with the bean factory are routed to cached event types"() {
+        given:
+        MicronautApplicationContext context = new MicronautApplicationContext()
+        context.start()
+        ApplicationEventRouter router = context.getBean(ApplicationEventRouter)
+        router.getListeners(MyEventListener.MyEvent)
+        RuntimeEventListener listener = new RuntimeEventListener()
+
+        when:
+        context.beanFactory.registerSingleton("runtimeEventListener", listener)
+        context.publishEvent(new MyEventListener.MyEvent(this))
+
+        then:
+        listener.events.size() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test listeners whose event type can not be resolved ignore non-matching events"() {
+        given:
+        MicronautApplicationContext context = new MicronautApplicationContext()
+        context.start()
+        UnresolvedEventListener listener = new UnresolvedEventListener()
+        context.beanFactory.registerSingleton("unresolvedEventListener", listener)
+
+        when:
+        context.publishEvent(new ApplicationEvent(this) {})
+        context.publishEvent(new MyEventListener.MyEvent(this))
+
+        then:
+        noExceptionThrown()
+        listener.events.size() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the refresh event on startup is delivered to listeners of exactly its type"() {
+        given:
+        MicronautApplicationContext context = new MicronautApplicationContext(
+                io.micronaut.context.ApplicationContext.builder().properties('spec.name': 'ApplicationEventRouterSpec')
+        )
+
+        when:
+        context.start()
+
+        then:
+        context.getBean(RefreshedListener).events.size() == 1
+        context.getBean(RefreshedListener).events.first().applicationContext instanceof MicronautApplicationContext
+        !context.getBean(ContextEventListener).events.any { it instanceof ContextRefreshedEvent }
+
+        cleanup:
+        context.close()
+    }
+
+    @Requires(property = 'spec.name', value = 'ApplicationEventRouterSpec')
+    @Singleton
+    static class RefreshedListener implements ApplicationListener<ContextRefreshedEvent> {
+        List<ContextRefreshedEvent> events = []
+
+        @Override
+        void onApplicationEvent(ContextRefreshedEvent event) {
+            events.add(event)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'ApplicationEventRouterSpec')
+    @Singleton
+    static class ContextEventListener implements ApplicationListener<ApplicationContextEvent> {
+        List<ApplicationContextEvent> events = []
+
+        @Override
+        void onApplicationEvent(ApplicationContextEvent event) {
+            events.add(event)
+        }
+    }
+
+    static class RuntimeEventListener implements ApplicationListener<MyEventListener.MyEvent> {
+        List<MyEventListener.MyEvent> events = []
+
+        @Override
+        void onApplicationEvent(MyEventListener.MyEvent event) {
+            events.add(event)
+        }
+    }
+
+    @CompileStatic
+    static class UnresolvedEventListener implements ApplicationListener {
+        List<MyEventListener.MyEvent> events = []
+
+        @Override
+        void onApplicationEvent(ApplicationEvent event) {
+            // like a lambda listener, the raw type hides the event type and the cast fails for other events
+            events.add((MyEventListener.MyEvent) event)
+        }
+    }
+}
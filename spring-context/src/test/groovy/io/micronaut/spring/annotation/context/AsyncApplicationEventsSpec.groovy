@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.annotation.context
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.spring.context.MicronautApplicationContext
+import io.micronaut.spring.context.event.AsyncApplicationEventMulticaster
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+
+class AsyncApplicationEventsSpec extends Specification {
+
+    void "test events are dispatched asynchronously in order"() {
+        given:
+        MicronautApplicationContext context = new MicronautApplicationContext(
+                ApplicationContext.builder()
+                        .properties(
+                                "micronaut.spring.context.events.async": true,
+                                "micronaut.spring.context.events.batch-size": 10
+                        )
+        )
+        context.start()
+        MyEventListener listener = context.getBean(MyEventListener)
+        List<MyEventListener.MyEvent> published = (1..100).collect { new MyEventListener.MyEvent(it) }
+
+        when:
+        published.each { context.publishEvent(it) }
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            assert listener.events == published
+        }
+        context.getBean(AsyncApplicationEventMulticaster).dispatchedEvents >= 100
+        context.getBean(AsyncApplicationEventMulticaster).droppedEvents == 0
+
+        cleanup:
+        context.close()
+    }
+
+    void "test consecutive events of one type are passed to batching listeners together"() {
+        given:
+        MicronautApplicationContext context = new MicronautApplicationContext(
+                ApplicationContext.builder()
+                        .properties(
+                                "micronaut.spring.context.events.async": true,
+                                "micronaut.spring.context.events.batch-size": 10,
+                                "micronaut.spring.context.events.executor": "batching",
+                                "micronaut.executors.batching.type": "fixed",
+                                "micronaut.executors.batching.number-of-threads": 1
+                        )
+        )
+        context.start()
+        MyBatchingEventListener batchingListener = context.getBean(MyBatchingEventListener)
+        MyEventListener listener = context.getBean(MyEventListener)
+        AsyncApplicationEventMulticaster multicaster = context.getBean(AsyncApplicationEventMulticaster)
+        long batchesBefore = multicaster.dispatchedBatches
+        // hold the only executor thread so that all events are queued before the drain starts
+        CountDownLatch release = new CountDownLatch(1)
+        context.getBean(ExecutorService, Qualifiers.byName("batching")).execute { release.await() }
+        List<MyBatchingEventListener.MyBatchedEvent> first = (1..3).collect { new MyBatchingEventListener.MyBatchedEvent(it) }
+        MyEventListener.MyEvent other = new MyEventListener.MyEvent(4)
+        List<MyBatchingEventListener.MyBatchedEvent> second = (5..8).collect { new MyBatchingEventListener.MyBatchedEvent(it) }
+
+        when:
+        first.each { context.publishEvent(it) }
+        context.publishEvent(other)
+        second.each { context.publishEvent(it) }
+        release.countDown()
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            assert batchingListener.batches == [first, second]
+            assert listener.events == [other]
+        }
+        multicaster.dispatchedBatches == batchesBefore + 2
+
+        cleanup:
+        release.countDown()
+        context.close()
+    }
+
+    void "test events are dispatched on the publishing thread when the executor rejects them"() {
+        given:
+        MicronautApplicationContext context = new MicronautApplicationContext(
+                ApplicationContext.builder()
+                        .properties(
+                                "micronaut.spring.context.events.async": true,
+                                "micronaut.spring.context.events.executor": "rejecting",
+                                "micronaut.executors.rejecting.type": "fixed",
+                                "micronaut.executors.rejecting.number-of-threads": 1
+                        )
+        )
+        context.start()
+        MyEventListener listener = context.getBean(MyEventListener)
+        context.getBean(ExecutorService, Qualifiers.byName("rejecting")).shutdown()
+        List<MyEventListener.MyEvent> published = (1..3).collect { new MyEventListener.MyEvent(it) }
+
+        when:
+        published.each { context.publishEvent(it) }
+
+        then:
+        listener.events == published
+        context.getBean(AsyncApplicationEventMulticaster).queueDepth == 0
+
+        cleanup:
+        context.close()
+    }
+}
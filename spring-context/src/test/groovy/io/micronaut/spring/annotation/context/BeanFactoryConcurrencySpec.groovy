@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.annotation.context
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.spring.context.MicronautApplicationContext
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+class BeanFactoryConcurrencySpec extends Specification {
+
+    static final int THREADS = 64
+    static final int REGISTRATIONS = 200
+
+    void "test resolve beans from many threads while registering beans"() {
+        given:
+        MicronautApplicationContext context = new MicronautApplicationContext(
+                ApplicationContext.builder()
+                        .properties("micronaut.spring.context.lazy-bean-definitions": true)
+        )
+        context.start()
+        ConfigurableListableBeanFactory beanFactory = context.beanFactory
+        String serviceName = context.getBeanNamesForType(MyNamedService)[0]
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS)
+        CountDownLatch start = new CountDownLatch(1)
+        Queue<String> registered = new ConcurrentLinkedQueue<>()
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>()
+
+        when:
+        List<Future<?>> futures = (1..THREADS).collect { int thread ->
+            executor.submit({
+                start.await()
+                try {
+                    for (int i = 0; i < REGISTRATIONS; i++) {
+                        assert beanFactory.getBean(serviceName) instanceof MyNamedService
+                        assert beanFactory.getBean("myname", MyNamedService)
+                        assert beanFactory.containsBeanDefinition(serviceName)
+                        if (thread % 8 == 0) {
+                            Iterator<String> names = beanFactory.beanNamesIterator
+                            while (names.hasNext()) {
+                                assert names.next() != null
+                            }
+                        }
+                        for (String name : registered) {
+                            assert beanFactory.getBean(name) instanceof Foo
+                        }
+                    }
+                } catch (Throwable e) {
+                    errors.add(e)
+                }
+            } as Callable)
+        }
+        start.countDown()
+        for (int i = 0; i < REGISTRATIONS; i++) {
+            String name = "foo" + i
+            beanFactory.registerSingleton(name, new Foo())
+            registered.add(name)
+        }
+        futures*.get(1, TimeUnit.MINUTES)
+
+        then:
+        errors.isEmpty()
+        beanFactory.getBeanNamesForType(Foo).length == REGISTRATIONS
+        beanFactory.beanDefinitionNames.length == beanFactory.beanDefinitionCount
+
+        cleanup:
+        executor.shutdownNow()
+        context.close()
+    }
+
+    static class Foo {}
+}
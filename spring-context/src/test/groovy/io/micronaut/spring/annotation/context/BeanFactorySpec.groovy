@@ -16,10 +16,18 @@
 package io.micronaut.spring.annotation.context
 
 import io.micronaut.context.env.Environment
+import io.micronaut.inject.qualifiers.Qualifiers
 import io.micronaut.spring.context.MicronautApplicationContext
 import io.micronaut.spring.context.factory.MicronautBeanFactory
 import org.springframework.beans.factory.BeanFactory
+import org.springframework.beans.factory.NoSuchBeanDefinitionException
+import org.springframework.beans.factory.config.BeanDefinition
 import org.springframework.beans.factory.config.ConfigurableBeanFactory
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory
+import org.springframework.beans.factory.support.RootBeanDefinition
+import org.springframework.core.Ordered
+import org.springframework.core.PriorityOrdered
 import spock.lang.Specification
 
 class BeanFactorySpec extends Specification {
@@ -64,5 +72,293 @@ class BeanFactorySpec extends Specification {
 
     }
 
-    static class Foo {}
+    void "test bean names for type are updated on registration"() {
+        given:
+        def context = new MicronautApplicationContext()
+        context.start()
+        ConfigurableListableBeanFactory beanFactory = context.beanFactory
+
+        expect:
+        beanFactory.getBeanNamesForType(Foo).length == 0
+        beanFactory.getBeanNamesForType(MyNamedService, false, false).length == 1
+
+        when:
+        beanFactory.registerSingleton("foo", new Foo())
+
+        then:
+        beanFactory.getBeanNamesForType(Foo) == ['foo'] as String[]
+        beanFactory.getBeanNamesForType(Foo, false, true) == ['foo'] as String[]
+        beanFactory.getBeanNamesForType(Serializable).contains('foo')
+
+        cleanup:
+        context.close()
+    }
+
+    void "test missing bean names are found once registered"() {
+        given:
+        def context = new MicronautApplicationContext()
+        context.start()
+        MicronautBeanFactory beanFactory = context.beanFactory
+
+        expect:
+        !beanFactory.containsBean("later")
+        !beanFactory.containsBean("later")
+        beanFactory.getType("later") == null
+        beanFactory.findBean("later", Foo) == null
+        beanFactory.findBean(Foo) == null
+        beanFactory.findBean(MyNamedService) != null
+
+        when:
+        beanFactory.getBean("later")
+
+        then:
+        thrown(NoSuchBeanDefinitionException)
+
+        when:
+        beanFactory.registerSingleton("later", new Foo())
+
+        then:
+        beanFactory.containsBean("later")
+        beanFactory.getType("later") == Foo
+        beanFactory.findBean("later", Foo).is(beanFactory.getBean("later"))
+        beanFactory.getBean("later") instanceof Foo
+
+        when:
+        beanFactory.registerAlias("later", "alias")
+
+        then:
+        beanFactory.containsBean("alias")
+
+        cleanup:
+        context.close()
+    }
+
+    void "test lazy beans of type match the eager lookup"() {
+        given:
+        def context = new MicronautApplicationContext()
+        context.start()
+        MicronautBeanFactory beanFactory = context.beanFactory
+        beanFactory.registerSingleton("foo", new Foo())
+        beanFactory.registerBeanDefinition("myPrototype", new RootBeanDefinition(MyPrototype).tap {
+            scope = ConfigurableBeanFactory.SCOPE_PROTOTYPE
+        })
+
+        when:
+        Map<String, MyNamedService> lazy = beanFactory.getBeansOfTypeLazily(MyNamedService)
+
+        then:
+        lazy.keySet() == [MyNamedService.name + "(myname)"] as Set
+        beanFactory.getBeansOfType(MyNamedService).keySet() == lazy.keySet()
+        lazy.values().first() instanceof MyNamedService
+        beanFactory.streamBeansOfType(Foo).toList() == [beanFactory.getBean("foo")]
+        beanFactory.getBeansOfType(Foo).keySet() == ["foo"] as Set
+
+        and: "the flags are honoured and the keys are the bean names"
+        beanFactory.getBeansOfType(MyPrototype).keySet() == beanFactory.getBeanNamesForType(MyPrototype) as Set
+        beanFactory.getBeansOfType(MyPrototype).size() == 1
+        beanFactory.getBeansOfType(MyPrototype, false, false).isEmpty()
+
+        when: "the keys are read"
+        Map<String, MyPrototype> prototypes = beanFactory.getBeansOfTypeLazily(MyPrototype)
+
+        then: "no bean is created"
+        prototypes.size() == 1
+        prototypes.containsKey("myPrototype")
+        prototypes.keySet() == ["myPrototype"] as Set
+        MyPrototype.created == old(MyPrototype.created)
+
+        when: "the map is hashed"
+        int hash = prototypes.hashCode()
+
+        then: "the bean is created once and the map compares by value"
+        MyPrototype.created == old(MyPrototype.created) + 1
+        hash == [myPrototype: prototypes.myPrototype].hashCode()
+        prototypes == [myPrototype: prototypes.myPrototype]
+        beanFactory.getBeansOfTypeLazily(Foo) == beanFactory.getBeansOfType(Foo)
+        beanFactory.getBeansOfTypeLazily(Foo).hashCode() == beanFactory.getBeansOfType(Foo).hashCode()
+
+        cleanup:
+        context.close()
+    }
+
+    static class MyPrototype {
+        static int created
+
+        MyPrototype() {
+            created++
+        }
+    }
+
+    void "test bean provider resolves candidates from definitions"() {
+        given:
+        def context = new MicronautApplicationContext()
+        context.start()
+        MicronautBeanFactory beanFactory = context.beanFactory
+        def provider = beanFactory.getBeanProvider(Foo)
+
+        expect:
+        provider.is(beanFactory.getBeanProvider(Foo))
+        provider.getIfUnique() == null
+        provider.getIfAvailable() == null
+
+        when:
+        beanFactory.registerSingleton("foo", new Foo())
+
+        then:
+        provider.getIfUnique().is(beanFactory.getBean("foo"))
+        provider.orderedStream().toList() == provider.orderedStream().toList()
+        provider.stream().count() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test bean provider sees singletons registered with the bean context"() {
+        given:
+        def context = new MicronautApplicationContext()
+        context.start()
+        MicronautBeanFactory beanFactory = context.beanFactory
+        def provider = beanFactory.getBeanProvider(MyPrototype)
+
+        expect:
+        provider.getIfAvailable() == null
+        provider.getIfUnique() == null
+        provider.stream().count() == 0
+
+        when:
+        def bean = new MyPrototype()
+        beanFactory.beanContext.registerSingleton(MyPrototype, bean)
+
+        then:
+        provider.getIfAvailable().is(bean)
+        provider.getIfUnique().is(bean)
+        provider.stream().toList() == [bean]
+        provider.orderedStream().toList() == [bean]
+
+        cleanup:
+        context.close()
+    }
+
+    void "test bean provider keeps its order until the bean context changes"() {
+        given:
+        def context = new MicronautApplicationContext()
+        context.start()
+        MicronautBeanFactory beanFactory = context.beanFactory
+        def provider = beanFactory.getBeanProvider(MyOrdered)
+        def second = new MyOrdered(2)
+        def first = new MyOrdered(1)
+        beanFactory.beanContext.registerSingleton(MyOrdered, second, Qualifiers.byName("second"))
+        beanFactory.beanContext.registerSingleton(MyOrdered, first, Qualifiers.byName("first"))
+
+        expect:
+        provider.orderedStream().toList() == [first, second]
+        provider.orderedStream().toList() == [first, second]
+        provider.getIfUnique() == null
+
+        when:
+        def zero = new MyOrdered(0)
+        beanFactory.beanContext.registerSingleton(MyOrdered, zero, Qualifiers.byName("zero"))
+
+        then:
+        provider.orderedStream().toList() == [zero, first, second]
+        provider.stream().count() == 3
+
+        cleanup:
+        context.close()
+    }
+
+    static class MyOrdered implements Ordered {
+        final int order
+
+        MyOrdered(int order) {
+            this.order = order
+        }
+    }
+
+    void "test bean definitions are computed once and copied per call"() {
+        given:
+        def context = new MicronautApplicationContext()
+        context.start()
+        MicronautBeanFactory beanFactory = context.beanFactory
+        String name = beanFactory.getBeanNamesForType(MyNamedService)[0]
+
+        when:
+        def definition = beanFactory.getBeanDefinition(name)
+
+        then:
+        !definition.is(beanFactory.getBeanDefinition(name))
+        definition.beanClassName == MyNamedService.name
+        definition.singleton
+        beanFactory.isSingleton(name)
+        !beanFactory.isPrototype(name)
+        beanFactory.containsSingleton(name)
+        !beanFactory.isSingleton("notthere")
+        !beanFactory.isPrototype("notthere")
+        definition.role == BeanDefinition.ROLE_APPLICATION
+
+        when:
+        definition.scope = ConfigurableBeanFactory.SCOPE_PROTOTYPE
+        definition.setAttribute("test", true)
+        definition.propertyValues.add("foo", "bar")
+
+        then:
+        definition.prototype
+        def other = beanFactory.getBeanDefinition(name)
+        other.singleton
+        other.getAttribute("test") == null
+        other.propertyValues.empty
+
+        cleanup:
+        context.close()
+    }
+
+    void "test post-processors registered after startup are applied in order"() {
+        given:
+        def context = new MicronautApplicationContext()
+        context.start()
+        MicronautBeanFactory beanFactory = context.beanFactory
+        List<String> calls = []
+
+        when:
+        beanFactory.registerSingleton("second", new RecordingProcessor(calls, "second", 1))
+        beanFactory.registerSingleton("first", new PriorityProcessor(calls, "first", 2))
+        beanFactory.registerBeanDefinition("bar", new RootBeanDefinition(Bar))
+        beanFactory.beanContext.getBean(Bar)
+
+        then:
+        calls == ["first", "second"]
+
+        cleanup:
+        context.close()
+    }
+
+    static class Foo implements Serializable {}
+
+    static class Bar {}
+
+    static class RecordingProcessor implements BeanPostProcessor, Ordered {
+        final List<String> calls
+        final String name
+        final int order
+
+        RecordingProcessor(List<String> calls, String name, int order) {
+            this.calls = calls
+            this.name = name
+            this.order = order
+        }
+
+        @Override
+        Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (bean instanceof Bar) {
+                calls << name
+            }
+            return bean
+        }
+    }
+
+    static class PriorityProcessor extends RecordingProcessor implements PriorityOrdered {
+        PriorityProcessor(List<String> calls, String name, int order) {
+            super(calls, name, order)
+        }
+    }
 }
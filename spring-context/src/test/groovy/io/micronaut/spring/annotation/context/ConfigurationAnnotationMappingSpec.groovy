@@ -53,4 +53,46 @@ class MyBean {
         applicationContext.getBean(type) == applicationContext.getBean(type)
         applicationContext.getBean(config).myBean() == applicationContext.getBean(config).myBean()
     }
+
+    void "test bean methods calling other bean methods return the memoized singletons"() {
+        given:
+        ApplicationContext applicationContext = buildContext('test.NestedConfiguration', '''
+package test;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NestedConfiguration {
+
+    @Bean
+    public Engine engine() {
+        return new Engine();
+    }
+
+    @Bean
+    public Car car() {
+        return new Car(engine());
+    }
+}
+
+class Engine {
+}
+
+class Car {
+    final Engine engine;
+
+    Car(Engine engine) {
+        this.engine = engine;
+    }
+}
+''')
+
+        applicationContext.registerSingleton(new SpringConfigurationInterceptor())
+        def config = applicationContext.getBean(applicationContext.classLoader.loadClass('test.NestedConfiguration'))
+
+        expect:
+        config.car().engine.is(config.engine())
+        config.car().is(config.car())
+    }
 }
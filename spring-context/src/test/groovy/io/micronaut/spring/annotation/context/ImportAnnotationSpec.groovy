@@ -4,6 +4,8 @@ import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
 import io.micronaut.inject.BeanDefinitionReference
 import io.micronaut.spring.beans.ObjectProviderBeanDefinition
 import io.micronaut.spring.beans.SpringImport
+import io.micronaut.spring.context.factory.ImportedBeansInitializer
+import io.micronaut.spring.context.factory.ImportedBeansReport
 import org.springframework.aop.framework.Advised
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.context.annotation.Bean
@@ -24,6 +26,8 @@ import org.springframework.transaction.interceptor.TransactionAttributeSource
 import org.springframework.transaction.interceptor.TransactionInterceptor
 import spock.util.concurrent.PollingConditions
 
+import java.util.concurrent.TimeUnit
+
 /**
  *
  * @author graemerocher
@@ -269,6 +273,52 @@ class Foo {
         foo.two.destroyCalled
     }
 
+    void "test imported beans are initialized in parallel"() {
+        given:
+        System.setProperty("micronaut.spring.context.parallel-imported-beans", "true")
+        def context = buildContext('importparallel.Foo', '''
+package importparallel;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Component;
+import io.micronaut.spring.annotation.context.*;
+
+@ImportOne
+@ImportTwo
+@Component
+class Foo {
+    @Autowired
+    One one;
+    @Autowired
+    Two two;
+}
+
+@Import({OneConfiguration.class, BeanA.class})
+@interface ImportOne {}
+
+@Import(TwoConfiguration.class)
+@interface ImportTwo {}
+''', true)
+
+        when:
+        ImportedBeansReport report = context.getBean(ImportedBeansInitializer).report.get(1, TimeUnit.MINUTES)
+        def foo = getBean(context, 'importparallel.Foo')
+
+        then:
+        report.beanCount > 0
+        !report.criticalPath.isEmpty()
+        report.criticalPathTime >= report.criticalPath.last().time
+        report.toString().startsWith("Initialized ${report.beanCount} imported beans")
+        report.failures.isEmpty()
+        foo.one
+        foo.two.initCalled
+
+        cleanup:
+        System.clearProperty("micronaut.spring.context.parallel-imported-beans")
+        context.close()
+    }
+
     @Override
     List<BeanDefinitionReference<?>> getBuiltInBeanReferences() {
         return super.getBuiltInBeanReferences() + [new ObjectProviderBeanDefinition()]
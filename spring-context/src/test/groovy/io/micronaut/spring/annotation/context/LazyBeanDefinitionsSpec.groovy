@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.annotation.context
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.spring.context.MicronautApplicationContext
+import io.micronaut.spring.context.factory.BeanNameIndex
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+class LazyBeanDefinitionsSpec extends Specification {
+
+    void "test bean name index is generated"() {
+        when:
+        def index = BeanNameIndex.load(getClass().classLoader)
+
+        then:
+        !index.isEmpty()
+        index.find('io.micronaut.spring.annotation.context.$MyNamedService$Definition').springName == 'myname'
+    }
+
+    void "test lazy bean definitions resolve the same names as eager loading"() {
+        given:
+        MicronautApplicationContext eager = new MicronautApplicationContext()
+        MicronautApplicationContext lazy = new MicronautApplicationContext(
+                ApplicationContext.builder()
+                        .properties("micronaut.spring.context.lazy-bean-definitions": true)
+        )
+        eager.start()
+        lazy.start()
+
+        when:
+        def names = lazy.getBeanNamesForType(MyNamedService)
+
+        then:
+        names == eager.getBeanNamesForType(MyNamedService)
+        lazy.containsBeanDefinition(names[0])
+        lazy.getBean(names[0]) instanceof MyNamedService
+        lazy.getBean("myname") instanceof MyNamedService
+        lazy.containsBean("myname")
+        lazy.beanDefinitionNames as Set == eager.beanDefinitionNames as Set
+
+        cleanup:
+        eager.close()
+        lazy.close()
+    }
+
+    void "test parallel bean definitions register the same names in the same order as sequential loading"() {
+        given:
+        MicronautApplicationContext sequential = new MicronautApplicationContext()
+        MicronautApplicationContext parallel = new MicronautApplicationContext(
+                ApplicationContext.builder()
+                        .properties("micronaut.spring.context.parallel-bean-definitions": true)
+        )
+        sequential.start()
+        parallel.start()
+
+        expect:
+        parallel.beanDefinitionNames == sequential.beanDefinitionNames
+        parallel.getBean("myname") instanceof MyNamedService
+        new PollingConditions(timeout: 10).eventually {
+            assert !Thread.allStackTraces.keySet().any { it.name.startsWith("spring-bean-definitions-") }
+        }
+
+        cleanup:
+        sequential.close()
+        parallel.close()
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.annotation.context
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.env.PropertySource
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent
+import io.micronaut.spring.context.env.MicronautEnvironment
+import org.springframework.core.env.EnumerablePropertySource
+import org.springframework.core.env.MapPropertySource
+import org.springframework.core.env.Profiles
+import spock.lang.Specification
+
+class MicronautEnvironmentSpec extends Specification {
+
+    void "test property lookups are cached until the environment is refreshed"() {
+        given:
+        ApplicationContext context = ApplicationContext.run("foo.bar": "one", "some.int": "10")
+        MicronautEnvironment env = context.getBean(MicronautEnvironment)
+
+        expect:
+        env.getProperty("foo.bar") == "one"
+        env.getProperty("foo.bar") == "one"
+        env.getProperty("some.int", Integer) == 10
+        env.getProperty("some.int", Integer) == 10
+        env.getProperty("some.int", Long) == 10L
+        env.containsProperty("foo.bar")
+        !env.containsProperty("not.there")
+        env.getProperty("not.there", "default") == "default"
+        env.propertyCache.hitCount == 2
+        env.propertyCache.entryCount == 6
+        env.propertyCache.hitRate > 0
+
+        when:
+        context.environment.addPropertySource(PropertySource.of("test", ["foo.bar": "two"], 1000))
+        context.publishEvent(new RefreshEvent())
+
+        then:
+        env.propertyCache.entryCount == 0
+        env.getProperty("foo.bar") == "two"
+
+        cleanup:
+        context.close()
+    }
+
+    void "test cached lookups see property sources added at runtime"() {
+        given:
+        ApplicationContext context = ApplicationContext.run("foo.bar": "one")
+        MicronautEnvironment env = context.getBean(MicronautEnvironment)
+
+        expect:
+        env.getProperty("added.value") == null
+        !env.containsProperty("added.value")
+        env.getProperty("foo.bar") == "one"
+
+        when:
+        context.environment.addPropertySource(PropertySource.of("added", ["added.value": "yes", "foo.bar": "two"], 1000))
+
+        then:
+        env.getProperty("added.value") == "yes"
+        env.containsProperty("added.value")
+        env.getProperty("foo.bar") == "two"
+
+        cleanup:
+        context.close()
+    }
+
+    void "test mutable value types are not cached"() {
+        given:
+        ApplicationContext context = ApplicationContext.run("foo.bar": "one")
+        MicronautEnvironment env = context.getBean(MicronautEnvironment)
+
+        when:
+        env.getProperty("foo.bar", StringBuilder)
+        env.getProperty("foo.bar", StringBuilder)
+
+        then:
+        env.propertyCache.entryCount == 0
+        env.propertyCache.hitCount == 0
+
+        when:
+        env.getProperty("foo.bar", String)
+
+        then:
+        env.propertyCache.entryCount == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test property sources are exposed as read-only enumerable sources"() {
+        given:
+        ApplicationContext context = ApplicationContext.run("foo.bar": "one")
+        MicronautEnvironment env = context.getBean(MicronautEnvironment)
+
+        when:
+        def sources = env.propertySources
+
+        then:
+        sources.is(env.propertySources)
+        sources.size() == context.environment.propertySources.size()
+        sources.every { it instanceof EnumerablePropertySource }
+        sources.find { it.containsProperty("foo.bar") }.getProperty("foo.bar") == "one"
+
+        when:
+        sources.addFirst(new MapPropertySource("test", [:]))
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        context.environment.addPropertySource(PropertySource.of("test", ["foo.bar": "two"], 1000))
+
+        then:
+        !env.propertySources.is(sources)
+        env.propertySources.get("test").getProperty("foo.bar") == "two"
+        env.propertySources.iterator().next().name == "test"
+
+        cleanup:
+        context.close()
+    }
+
+    void "test profile checks"() {
+        given:
+        ApplicationContext context = ApplicationContext.run("custom")
+        MicronautEnvironment env = context.getBean(MicronautEnvironment)
+
+        expect:
+        env.activeProfiles.contains("custom")
+        env.activeProfiles.is(env.activeProfiles)
+        env.acceptsProfiles("custom")
+        env.acceptsProfiles("other", "custom")
+        env.acceptsProfiles("!other")
+        !env.acceptsProfiles("other")
+        !env.acceptsProfiles("!custom")
+        env.acceptsProfiles(Profiles.of("custom & !other"))
+        env.acceptsProfiles(Profiles.of("custom & !other"))
+        !env.acceptsProfiles(Profiles.of("custom & other"))
+        env.matchesProfiles("custom | other")
+        env.matchesProfiles("custom | other")
+        !env.matchesProfiles("other", "!custom")
+
+        cleanup:
+        context.close()
+    }
+}
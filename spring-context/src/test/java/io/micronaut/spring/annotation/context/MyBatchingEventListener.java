@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.annotation.context;
+
+import io.micronaut.spring.context.event.BatchingApplicationListener;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+public class MyBatchingEventListener implements BatchingApplicationListener<MyBatchingEventListener.MyBatchedEvent> {
+
+    final List<List<MyBatchedEvent>> batches = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onApplicationEvent(MyBatchedEvent event) {
+        batches.add(Collections.singletonList(event));
+    }
+
+    @Override
+    public void onApplicationEvents(List<MyBatchedEvent> events) {
+        batches.add(new ArrayList<>(events));
+    }
+
+    public static class MyBatchedEvent extends ApplicationEvent {
+        public MyBatchedEvent(Object source) {
+            super(source);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.annotation.context;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+public class MyEventListener implements ApplicationListener<MyEventListener.MyEvent> {
+
+    final List<MyEvent> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onApplicationEvent(MyEvent event) {
+        events.add(event);
+    }
+
+    public static class MyEvent extends ApplicationEvent {
+        public MyEvent(Object source) {
+            super(source);
+        }
+    }
+}
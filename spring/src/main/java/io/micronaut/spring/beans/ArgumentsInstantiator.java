@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.beans;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.reflect.exception.InstantiationException;
+import io.micronaut.core.type.Argument;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates instances from explicit constructor arguments, as required by Spring's
+ * {@link org.springframework.beans.factory.ObjectProvider#getObject(Object...)}.
+ *
+ * <p>The constructor matching the runtime types of the arguments is looked up once per type and argument signature.
+ * The constructor of a generated {@link BeanIntrospection} is preferred since it is invoked without reflection.</p>
+ *
+ * @since 5.9.0
+ */
+@Internal
+public final class ArgumentsInstantiator {
+
+    private static final ClassValue<Map<List<Class<?>>, Instantiator>> INSTANTIATORS = new ClassValue<>() {
+        @Override
+        protected Map<List<Class<?>>, Instantiator> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ArgumentsInstantiator() {
+    }
+
+    /**
+     * Creates an instance of the given type from the given constructor arguments.
+     *
+     * @param type The type
+     * @param args The constructor arguments
+     * @param <T> The type
+     * @return The instance
+     * @throws InstantiationException if no constructor accepts the arguments or the constructor fails
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    public static <T> T instantiate(@NonNull Class<T> type, @NonNull Object... args) {
+        final Class<?>[] argumentTypes = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            argumentTypes[i] = args[i] != null ? args[i].getClass() : null;
+        }
+        final Map<List<Class<?>>, Instantiator> instantiators = INSTANTIATORS.get(type);
+        final List<Class<?>> signature = Arrays.asList(argumentTypes);
+        Instantiator instantiator = instantiators.get(signature);
+        if (instantiator == null) {
+            instantiator = resolve(type, argumentTypes);
+            instantiators.put(signature, instantiator);
+        }
+        return (T) instantiator.instantiate(args);
+    }
+
+    private static Instantiator resolve(Class<?> type, Class<?>[] argumentTypes) {
+        final BeanIntrospection<?> introspection = BeanIntrospector.SHARED.findIntrospection(type).orElse(null);
+        if (introspection != null) {
+            final Argument<?>[] arguments = introspection.getConstructorArguments();
+            final Class<?>[] parameterTypes = new Class<?>[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                parameterTypes[i] = arguments[i].getType();
+            }
+            if (accepts(parameterTypes, argumentTypes)) {
+                return introspection::instantiate;
+            }
+        }
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (accepts(constructor.getParameterTypes(), argumentTypes)) {
+                constructor.setAccessible(true);
+                return args -> {
+                    try {
+                        return constructor.newInstance(args);
+                    } catch (InvocationTargetException e) {
+                        throw new InstantiationException("Could not instantiate type [" + type.getName() + "]: " + e.getCause().getMessage(), e.getCause());
+                    } catch (ReflectiveOperationException e) {
+                        throw new InstantiationException("Could not instantiate type [" + type.getName() + "]: " + e.getMessage(), e);
+                    }
+                };
+            }
+        }
+        return args -> {
+            throw new InstantiationException("No constructor of type [" + type.getName() + "] accepts arguments " + Arrays.toString(argumentTypes));
+        };
+    }
+
+    private static boolean accepts(Class<?>[] parameterTypes, Class<?>[] argumentTypes) {
+        if (parameterTypes.length != argumentTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final Class<?> argumentType = argumentTypes[i];
+            if (argumentType == null ? parameterTypes[i].isPrimitive() : !ClassUtils.isAssignable(parameterTypes[i], argumentType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates an instance from constructor arguments.
+     */
+    @FunctionalInterface
+    private interface Instantiator {
+        Object instantiate(Object[] args);
+    }
+}
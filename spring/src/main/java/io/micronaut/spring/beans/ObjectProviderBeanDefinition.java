@@ -15,22 +15,24 @@
  */
 package io.micronaut.spring.beans;
 
-import java.util.Arrays;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanResolutionContext;
-import io.micronaut.context.DefaultBeanContext;
 import io.micronaut.context.Qualifier;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.reflect.InstantiationUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ParametrizedInstantiatableBeanDefinition;
 import io.micronaut.inject.provider.AbstractProviderDefinition;
 import io.micronaut.inject.qualifiers.AnyQualifier;
-import io.micronaut.inject.qualifiers.Qualifiers;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.ObjectProvider;
@@ -66,7 +68,7 @@ public final class ObjectProviderBeanDefinition extends AbstractProviderDefiniti
         @NonNull Argument<Object> argument,
         @Nullable Qualifier<Object> qualifier,
         boolean singleton) {
-        return new MicronautObjectProvider(qualifier, context, resolutionContext, argument);
+        return new MicronautObjectProvider(qualifier, context, argument);
     }
 
     @Override
@@ -76,40 +78,51 @@ public final class ObjectProviderBeanDefinition extends AbstractProviderDefiniti
 
     private final class MicronautObjectProvider implements ObjectProvider<Object>, MicronautContextInternal {
         private final Qualifier<Object> finalQualifier;
-        private final Qualifier<Object> qualifier;
         private final BeanContext context;
-        private final BeanResolutionContext resolutionContext;
         private final Argument<Object> argument;
+        private volatile OrderedCandidates orderedCandidates;
 
-        public MicronautObjectProvider(Qualifier<Object> qualifier, BeanContext context, BeanResolutionContext resolutionContext, Argument<Object> argument) {
-            this.qualifier = qualifier;
+        public MicronautObjectProvider(Qualifier<Object> qualifier, BeanContext context, Argument<Object> argument) {
             this.context = context;
-            this.resolutionContext = resolutionContext;
             this.argument = argument;
             finalQualifier = qualifier instanceof AnyQualifier ? null : qualifier;
         }
 
         @Override
         public Stream<Object> stream() {
-            return ((DefaultBeanContext) context).streamOfType(resolutionContext.copy(), argument, finalQualifier);
+            return context.streamOfType(argument, finalQualifier);
         }
 
         @Override
         public Stream<Object> orderedStream() {
-            return ((DefaultBeanContext) context).streamOfType(resolutionContext.copy(), argument, finalQualifier)
-                .sorted(OrderComparator.INSTANCE);
+            // the candidates are cached by the context until a definition is registered
+            final Collection<BeanDefinition<Object>> candidates = context.getBeanDefinitions(argument, finalQualifier);
+            final OrderedCandidates ordered = orderedCandidates;
+            if (ordered != null && ordered.isFor(candidates)) {
+                return ordered.definitions.stream().map(context::getBean);
+            }
+            final List<Map.Entry<BeanDefinition<Object>, Object>> beans = new ArrayList<>(candidates.size());
+            for (BeanDefinition<Object> definition : candidates) {
+                beans.add(new AbstractMap.SimpleImmutableEntry<>(definition, context.getBean(definition)));
+            }
+            beans.sort((a, b) -> OrderComparator.INSTANCE.compare(a.getValue(), b.getValue()));
+            final List<BeanDefinition<Object>> definitions = new ArrayList<>(beans.size());
+            for (Map.Entry<BeanDefinition<Object>, Object> bean : beans) {
+                definitions.add(bean.getKey());
+            }
+            orderedCandidates = new OrderedCandidates(candidates.toArray(new BeanDefinition[0]), definitions);
+            return beans.stream().map(Map.Entry::getValue);
         }
 
         @Override
         public Object getObject(Object... args) throws BeansException {
             try {
                 BeanDefinition<Object> beanDefinition = context.getBeanDefinition(argument, finalQualifier);
-                Class<Object> beanType = beanDefinition.getBeanType();
-                return InstantiationUtils.instantiate(
-                    beanType,
-                    Arrays.stream(beanDefinition.getConstructor().getArguments()).map(Argument::getClass).toArray(Class[]::new),
-                    args
-                );
+                if (beanDefinition instanceof ParametrizedInstantiatableBeanDefinition || args.length == 0) {
+                    // the generated definition maps the arguments to its @Parameter arguments
+                    return context.createBean(beanDefinition.getBeanType(), finalQualifier, args);
+                }
+                return ArgumentsInstantiator.instantiate(beanDefinition.getBeanType(), args);
             } catch (Exception e) {
                 throw new BeanCreationException(e.getMessage(), e);
             }
@@ -125,9 +138,10 @@ public final class ObjectProviderBeanDefinition extends AbstractProviderDefiniti
 
         @Override
         public Object getIfUnique() throws BeansException {
-            if (context.getBeanDefinitions(argument, finalQualifier).size() == 1) {
+            final BeanDefinition<Object> unique = findUnique(context.getBeanDefinitions(argument, finalQualifier));
+            if (unique != null) {
                 try {
-                    return ((DefaultBeanContext) context).getBean(resolutionContext.copy(), argument, qualify(qualifier));
+                    return context.getBean(unique);
                 } catch (Exception e) {
                     throw new BeanCreationException(e.getMessage(), e);
                 }
@@ -138,22 +152,52 @@ public final class ObjectProviderBeanDefinition extends AbstractProviderDefiniti
         @Override
         public Object getObject() throws BeansException {
             try {
-                return ((DefaultBeanContext) context).getBean(resolutionContext.copy(), argument, finalQualifier);
+                return context.getBean(argument, finalQualifier);
             } catch (Exception e) {
                 throw new BeanCreationException(e.getMessage(), e);
             }
         }
 
-        private Qualifier<Object> qualify(Qualifier<Object> qualifier) {
-            if (finalQualifier == null) {
-                return qualifier;
-            } else if (qualifier == null) {
-                return finalQualifier;
+        private BeanDefinition<Object> findUnique(Collection<BeanDefinition<Object>> definitions) {
+            if (definitions.size() == 1) {
+                return definitions.iterator().next();
             }
+            BeanDefinition<Object> primary = null;
+            for (BeanDefinition<Object> definition : definitions) {
+                if (definition.isPrimary()) {
+                    if (primary != null) {
+                        return null;
+                    }
+                    primary = definition;
+                }
+            }
+            return primary;
+        }
+    }
+
+    /**
+     * The order established for a list of candidate definitions.
+     */
+    private static final class OrderedCandidates {
+        private final BeanDefinition<?>[] candidates;
+        private final List<BeanDefinition<Object>> definitions;
 
-            //noinspection unchecked
-            return Qualifiers.byQualifiers(finalQualifier, qualifier);
+        private OrderedCandidates(BeanDefinition<?>[] candidates, List<BeanDefinition<Object>> definitions) {
+            this.candidates = candidates;
+            this.definitions = definitions;
         }
 
+        private boolean isFor(Collection<BeanDefinition<Object>> beanDefinitions) {
+            if (beanDefinitions.size() != candidates.length) {
+                return false;
+            }
+            int i = 0;
+            for (BeanDefinition<Object> definition : beanDefinitions) {
+                if (definition != candidates[i++]) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.core.env;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import org.springframework.util.ConcurrentLruCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A text with {@code ${key}} and {@code ${key:default}} placeholders, parsed once into literals and keys.
+ *
+ * <p>Templates are cached in a bounded LRU cache. Texts that use anything else, such as nested placeholders or
+ * environment variable names, compile to an unsupported template. Unsupported templates and templates with a key
+ * that can not be resolved render to {@code null}, and callers fall back to the Micronaut
+ * {@link io.micronaut.context.env.PropertyPlaceholderResolver}, which also reports the errors.</p>
+ *
+ * @since 5.9.0
+ */
+@Internal
+public final class PlaceholderTemplate {
+
+    /**
+     * The maximum number of cached templates.
+     */
+    public static final int CACHE_SIZE = 512;
+
+    private static final String PREFIX = "${";
+    private static final char SUFFIX = '}';
+    private static final char SEPARATOR = ':';
+    private static final PlaceholderTemplate UNSUPPORTED = new PlaceholderTemplate(null, null, null, 0);
+    private static final PlaceholderTemplate LITERAL = new PlaceholderTemplate(StringUtils.EMPTY_STRING_ARRAY, StringUtils.EMPTY_STRING_ARRAY, StringUtils.EMPTY_STRING_ARRAY, 0);
+    private static final ConcurrentLruCache<String, PlaceholderTemplate> TEMPLATES = new ConcurrentLruCache<>(CACHE_SIZE, PlaceholderTemplate::compile);
+
+    // literals[i] precedes keys[i], the last literal follows the last key
+    private final String[] literals;
+    private final String[] keys;
+    private final String[] defaults;
+    private final int literalLength;
+
+    private PlaceholderTemplate(String[] literals, String[] keys, String[] defaults, int literalLength) {
+        this.literals = literals;
+        this.keys = keys;
+        this.defaults = defaults;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * @param text The text
+     * @return The cached or newly compiled template, a shared template rendering the text as is if it has no placeholders
+     */
+    @NonNull
+    public static PlaceholderTemplate of(@NonNull String text) {
+        if (text.indexOf(PREFIX) == -1) {
+            // nothing to parse or cache
+            return LITERAL;
+        }
+        return TEMPLATES.get(text);
+    }
+
+    /**
+     * @return Whether the text could be compiled
+     */
+    public boolean isSupported() {
+        return literals != null;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param text The text the template was obtained for
+     * @param resolver Resolves the value of a key, returning {@code null} if it is missing
+     * @return The text or {@code null} if the template is not supported or a key without default is missing
+     */
+    @Nullable
+    public String render(@NonNull String text, @NonNull Function<String, String> resolver) {
+        if (literals == null) {
+            return null;
+        }
+        if (keys.length == 0) {
+            return text;
+        }
+        final StringBuilder builder = new StringBuilder(literalLength + 16 * keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(literals[i]);
+            String value = resolver.apply(keys[i]);
+            if (value == null) {
+                value = defaults[i];
+                if (value == null) {
+                    return null;
+                }
+            }
+            builder.append(value);
+        }
+        return builder.append(literals[keys.length]).toString();
+    }
+
+    private static PlaceholderTemplate compile(String text) {
+        final List<String> literals = new ArrayList<>(4);
+        final List<String> keys = new ArrayList<>(4);
+        final List<String> defaults = new ArrayList<>(4);
+        int literalLength = 0;
+        int position = 0;
+        int start = text.indexOf(PREFIX);
+        while (start != -1) {
+            final int end = text.indexOf(SUFFIX, start + PREFIX.length());
+            if (end == -1) {
+                return UNSUPPORTED;
+            }
+            final String expression = text.substring(start + PREFIX.length(), end);
+            if (expression.contains(PREFIX)) {
+                return UNSUPPORTED;
+            }
+            final int separator = expression.indexOf(SEPARATOR);
+            final String key = separator == -1 ? expression : expression.substring(0, separator);
+            if (key.isEmpty() || !key.equals(key.trim()) || isEnvironmentName(key)) {
+                // environment variable names are resolved differently by Micronaut
+                return UNSUPPORTED;
+            }
+            final String literal = text.substring(position, start);
+            literals.add(literal);
+            literalLength += literal.length();
+            keys.add(key);
+            defaults.add(separator == -1 ? null : expression.substring(separator + 1));
+            position = end + 1;
+            start = text.indexOf(PREFIX, position);
+        }
+        final String literal = text.substring(position);
+        literals.add(literal);
+        literalLength += literal.length();
+        return new PlaceholderTemplate(
+            literals.toArray(StringUtils.EMPTY_STRING_ARRAY),
+            keys.toArray(StringUtils.EMPTY_STRING_ARRAY),
+            defaults.toArray(new String[0]),
+            literalLength
+        );
+    }
+
+    private static boolean isEnvironmentName(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            if (!(Character.isUpperCase(c) || Character.isDigit(c) || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -18,6 +18,7 @@ package io.micronaut.spring.core.env;
 import io.micronaut.context.env.PropertyPlaceholderResolver;
 import io.micronaut.core.naming.NameUtils;
 import org.springframework.core.env.PropertyResolver;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Adapts a {@link io.micronaut.core.value.PropertyResolver} to a Spring {@link org.springframework.core.env.PropertyResolver}.
@@ -27,6 +28,9 @@ import org.springframework.core.env.PropertyResolver;
  */
 public class PropertyResolverAdapter implements PropertyResolver {
 
+    private static final int NORMALIZED_KEYS_SIZE = 1024;
+    private static final ConcurrentLruCache<String, String> NORMALIZED_KEYS = new ConcurrentLruCache<>(NORMALIZED_KEYS_SIZE, NameUtils::hyphenate);
+
     private final io.micronaut.core.value.PropertyResolver propertyResolver;
     private final PropertyPlaceholderResolver placeholderResolver;
 
@@ -50,37 +54,37 @@ public class PropertyResolverAdapter implements PropertyResolver {
 
     @Override
     public boolean containsProperty(String key) {
-        return propertyResolver.getProperty(NameUtils.hyphenate(key), String.class).isPresent();
+        return propertyResolver.getProperty(normalize(key), String.class).isPresent();
     }
 
     @Override
     public String getProperty(String key) {
-        return propertyResolver.getProperty(NameUtils.hyphenate(key), String.class).orElse(null);
+        return propertyResolver.getProperty(normalize(key), String.class).orElse(null);
     }
 
     @Override
     public String getProperty(String key, String defaultValue) {
-        return getProperty(NameUtils.hyphenate(key), String.class, null);
+        return propertyResolver.getProperty(normalize(key), String.class, defaultValue);
     }
 
     @Override
     public <T> T getProperty(String key, Class<T> targetType) {
-        return getProperty(NameUtils.hyphenate(key), targetType, null);
+        return propertyResolver.getProperty(normalize(key), targetType, null);
     }
 
     @Override
     public <T> T getProperty(String key, Class<T> targetType, T defaultValue) {
-        return propertyResolver.getProperty(NameUtils.hyphenate(key), targetType, defaultValue);
+        return propertyResolver.getProperty(normalize(key), targetType, defaultValue);
     }
 
     @Override
     public String getRequiredProperty(String key) throws IllegalStateException {
-        return getRequiredProperty(NameUtils.hyphenate(key), String.class);
+        return getRequiredProperty(key, String.class);
     }
 
     @Override
     public <T> T getRequiredProperty(String key, Class<T> targetType) throws IllegalStateException {
-        T v = getProperty(NameUtils.hyphenate(key), targetType, null);
+        T v = propertyResolver.getProperty(normalize(key), targetType, null);
         if (v == null) {
             throw new IllegalStateException("Property [" + key + "] not found");
         }
@@ -89,11 +93,40 @@ public class PropertyResolverAdapter implements PropertyResolver {
 
     @Override
     public String resolvePlaceholders(String text) {
+        final String resolved = PlaceholderTemplate.of(text).render(text, this::resolvePlaceholder);
+        if (resolved != null) {
+            return resolved;
+        }
         return placeholderResolver.resolvePlaceholders(text).orElse(null);
     }
 
     @Override
     public String resolveRequiredPlaceholders(String text) throws IllegalArgumentException {
+        final String resolved = PlaceholderTemplate.of(text).render(text, this::resolvePlaceholder);
+        if (resolved != null) {
+            return resolved;
+        }
         return placeholderResolver.resolvePlaceholders(text).orElseThrow(() -> new IllegalArgumentException("Unable to resolve placeholders for property: " + text));
     }
+
+    private String resolvePlaceholder(String key) {
+        return propertyResolver.getProperty(key, String.class).orElse(null);
+    }
+
+    /**
+     * Converts a key to the hyphenated form used by Micronaut. Keys that are already hyphenated are returned as is,
+     * others are converted once and cached.
+     *
+     * @param key The key
+     * @return The hyphenated key
+     */
+    private static String normalize(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '.')) {
+                return NORMALIZED_KEYS.get(key);
+            }
+        }
+        return key;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.beans
+
+import io.micronaut.core.reflect.exception.InstantiationException
+import spock.lang.Specification
+
+class ArgumentsInstantiatorSpec extends Specification {
+
+    void "test instantiate with the constructor matching the arguments"() {
+        when:
+        Greeting greeting = ArgumentsInstantiator.instantiate(Greeting, "hello", 2)
+
+        then:
+        greeting.text == "hello"
+        greeting.times == 2
+
+        when:
+        greeting = ArgumentsInstantiator.instantiate(Greeting, "hi")
+
+        then:
+        greeting.text == "hi"
+        greeting.times == 1
+    }
+
+    void "test instantiate fails when no constructor matches"() {
+        when:
+        ArgumentsInstantiator.instantiate(Greeting, 1L)
+
+        then:
+        thrown(InstantiationException)
+    }
+
+    static class Greeting {
+        final String text
+        final int times
+
+        Greeting(String text) {
+            this(text, 1)
+        }
+
+        Greeting(String text, int times) {
+            this.text = text
+            this.times = times
+        }
+    }
+}
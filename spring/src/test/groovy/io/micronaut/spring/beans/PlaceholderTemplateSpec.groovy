@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.beans
+
+import io.micronaut.spring.core.env.PlaceholderTemplate
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PlaceholderTemplateSpec extends Specification {
+
+    static final Map<String, String> PROPERTIES = ["foo.bar": "one", "server.port": "8080"]
+
+    @Unroll
+    void "test render '#text'"() {
+        expect:
+        PlaceholderTemplate.of(text).render(text) { PROPERTIES[it] } == result
+
+        where:
+        text                                         | result
+        "plain"                                      | "plain"
+        "\${foo.bar}"                                | "one"
+        "a \${foo.bar} b \${server.port} c"          | "a one b 8080 c"
+        "\${missing:fallback}"                       | "fallback"
+        "\${missing:http://localhost:\${server.port}}" | null
+        "\${missing:}"                               | ""
+        "\${missing}"                                | null
+        "\${HOME}"                                   | null
+        "\${foo.bar"                                 | null
+    }
+
+    void "test templates are cached"() {
+        expect:
+        PlaceholderTemplate.of("x \${foo.bar}").is(PlaceholderTemplate.of("x \${foo.bar}"))
+        PlaceholderTemplate.of("x \${foo.bar}").supported
+        !PlaceholderTemplate.of("\${a:\${b}}").supported
+    }
+
+    void "test texts without placeholders share one template"() {
+        expect:
+        PlaceholderTemplate.of("plain").is(PlaceholderTemplate.of("other"))
+        PlaceholderTemplate.of("other").render("other") { throw new AssertionError() } == "other"
+    }
+}
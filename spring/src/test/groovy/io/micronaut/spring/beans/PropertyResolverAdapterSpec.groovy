@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.spring.beans
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.spring.core.env.PropertyResolverAdapter
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class PropertyResolverAdapterSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run("data-source.max-pool-size": "10")
+
+    @Shared
+    PropertyResolverAdapter adapter = new PropertyResolverAdapter(context.environment, context.environment.placeholderResolver)
+
+    void "test camel case and hyphenated keys resolve the same property"() {
+        expect:
+        adapter.getProperty("dataSource.maxPoolSize") == "10"
+        adapter.getProperty("data-source.max-pool-size") == "10"
+        adapter.getProperty("dataSource.maxPoolSize", Integer) == 10
+        adapter.getRequiredProperty("dataSource.maxPoolSize") == "10"
+        adapter.containsProperty("dataSource.maxPoolSize")
+        !adapter.containsProperty("dataSource.minPoolSize")
+    }
+
+    void "test the default value is returned for missing properties"() {
+        expect:
+        adapter.getProperty("dataSource.minPoolSize", "2") == "2"
+        adapter.getProperty("dataSource.maxPoolSize", "2") == "10"
+        adapter.getProperty("dataSource.minPoolSize", Integer, 2) == 2
+    }
+
+    void "test a missing required property fails"() {
+        when:
+        adapter.getRequiredProperty("dataSource.minPoolSize")
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == "Property [dataSource.minPoolSize] not found"
+    }
+}